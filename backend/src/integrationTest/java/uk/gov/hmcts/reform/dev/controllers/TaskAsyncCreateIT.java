@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.PendingTask;
+import uk.gov.hmcts.reform.dev.service.TaskBatchWriter;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest(properties = "tasks.async-create.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Async Create Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskAsyncCreateIT {
+
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    static Path journalDirectory;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("asynccreatedb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("tasks.async-create.journal", () -> journalDirectory.resolve("journal").toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskBatchWriter taskBatchWriter;
+
+    @Test
+    @DisplayName("should accept a task and create it under the id it was given")
+    void shouldCreateAcceptedTask() throws Exception {
+        JsonNode accepted = createAsync("Written behind");
+        long id = accepted.get("id").asLong();
+        assertThat(accepted.get("state").asText()).isEqualTo("PENDING");
+
+        JsonNode created = awaitCreated(id);
+
+        assertThat(created.get("task").get("title").asText()).isEqualTo("Written behind");
+        assertThat(taskService.getTaskById(id).getTitle()).isEqualTo("Written behind");
+    }
+
+    @Test
+    @DisplayName("should hand out ids that never clash with tasks created directly")
+    void shouldNotClashWithDirectlyCreatedTasks() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ids.add(taskService.createTask(taskRequest("Direct " + i)).getId());
+            ids.add(createAsync("Async " + i).get("id").asLong());
+        }
+        for (Long id : ids) {
+            awaitCreated(id);
+        }
+
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(taskRepository.findAllById(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("should report a task the database rejects as failed")
+    void shouldReportRejectedTask() throws Exception {
+        long id = createAsync("x".repeat(300)).get("id").asLong();
+
+        assertThat(awaitState(id, "FAILED").get("error").asText()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("should not recreate a replayed task that was deleted after it was written")
+    void shouldNotRecreateDeletedTaskOnReplay() throws Exception {
+        long id = createAsync("Deleted before replay").get("id").asLong();
+        awaitCreated(id);
+        taskService.deleteTask(id);
+
+        // As a restart replays a batch whose completion never reached the journal
+        PendingTask replayed = new PendingTask(id, taskRequest("Deleted before replay"), LocalDateTime.now());
+
+        assertThat(taskBatchWriter.insert(List.of(replayed))).isEmpty();
+        assertThatThrownBy(() -> taskService.getTaskById(id)).isInstanceOf(TaskNotFoundException.class);
+    }
+
+    private JsonNode createAsync(String title) throws Exception {
+        String body = mockMvc.perform(post("/api/tasks/create-task-async")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest(title))))
+            .andExpect(status().isAccepted())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode awaitCreated(long id) throws Exception {
+        return awaitState(id, "CREATED");
+    }
+
+    private JsonNode awaitState(long id, String state) throws Exception {
+        Instant deadline = Instant.now().plus(WRITE_TIMEOUT);
+        JsonNode status = status(id);
+        while (!status.get("state").asText().equals(state) && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            status = status(id);
+        }
+        assertThat(status.get("state").asText()).isEqualTo(state);
+        return status;
+    }
+
+    private JsonNode status(long id) throws Exception {
+        String body = mockMvc.perform(get("/api/tasks/{id}/create-status", id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static TaskRequest taskRequest(String title) {
+        return TaskRequest.builder().title(title).status(TODO).build();
+    }
+}
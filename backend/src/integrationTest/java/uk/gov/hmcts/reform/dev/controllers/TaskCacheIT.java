@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+/**
+ * Each reader loads a task inside a transaction it holds open until a concurrent write has
+ * committed, so its cache put lands after the writer's eviction.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Cache Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskCacheIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("taskcachedb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("should not cache a task read before a concurrent update committed")
+    void shouldNotCacheReadThatRacedUpdate() throws Exception {
+        Long id = taskService.createTask(TaskRequest.builder().title("Raced update").status(TODO).build()).getId();
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<TaskResponse> reader = readHeldOpenUntil(id, written);
+
+        taskService.updateTaskStatus(id, COMPLETED, null);
+        written.countDown();
+
+        assertThat(reader.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(TODO);
+        assertThat(taskService.getTaskById(id).getStatus()).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    @DisplayName("should not cache a task read before a concurrent delete committed")
+    void shouldNotCacheReadThatRacedDelete() throws Exception {
+        Long id = taskService.createTask(TaskRequest.builder().title("Raced delete").status(TODO).build()).getId();
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<TaskResponse> reader = readHeldOpenUntil(id, written);
+
+        taskService.deleteTask(id);
+        written.countDown();
+
+        assertThat(reader.get(10, TimeUnit.SECONDS).getId()).isEqualTo(id);
+        assertThatThrownBy(() -> taskService.getTaskById(id)).isInstanceOf(TaskNotFoundException.class);
+    }
+
+    // Returns once the reader has loaded the task; it commits, and so puts it in the cache, after written
+    private CompletableFuture<TaskResponse> readHeldOpenUntil(Long id, CountDownLatch written) {
+        CountDownLatch loaded = new CountDownLatch(1);
+        CompletableFuture<TaskResponse> reader = CompletableFuture.supplyAsync(() ->
+            transactionTemplate.execute(status -> {
+                TaskResponse task = taskService.getTaskById(id);
+                loaded.countDown();
+                await(written);
+                return task;
+            })
+        );
+        await(loaded);
+        return reader;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Change Feed Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskChangeFeedIT {
+
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("changefeeddb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("should push committed changes and never rolled back ones")
+    void shouldPushOnlyCommittedChanges() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/tasks/changes"))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(taskRequest("Rolled back task"));
+            status.setRollbackOnly();
+        });
+        mockMvc.perform(post("/api/tasks/create-task")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest("Committed task"))))
+            .andExpect(status().isCreated());
+
+        String events = awaitContent(stream, "Committed task");
+        assertThat(events).contains("\"type\":\"CREATED\"");
+        assertThat(events).doesNotContain("Rolled back task");
+    }
+
+    @Test
+    @DisplayName("should replay missed changes to a client resuming from its last event id")
+    void shouldReplayMissedChanges() throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(get("/api/tasks/changes"))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+        taskService.createTask(taskRequest("Seen task"));
+        Matcher ids = EVENT_ID.matcher(awaitContent(first, "Seen task"));
+        String lastEventId = null;
+        while (ids.find()) {
+            lastEventId = ids.group(1);
+        }
+
+        taskService.createTask(taskRequest("Missed task"));
+        MockHttpServletResponse resumed = mockMvc.perform(get("/api/tasks/changes")
+                .header("Last-Event-ID", lastEventId))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+
+        String replayed = awaitContent(resumed, "Missed task");
+        assertThat(replayed).doesNotContain("Seen task");
+    }
+
+    @Test
+    @DisplayName("should push changes made on another instance")
+    void shouldPushChangesFromAnotherInstance() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/tasks/changes"))
+            .andExpect(request().asyncStarted())
+            .andReturn()
+            .getResponse();
+
+        // Another instance only shares the database, so notify on a connection of its own
+        try (Connection otherInstance = DriverManager.getConnection(postgres.getJdbcUrl(),
+                postgres.getUsername(), postgres.getPassword());
+             PreparedStatement notify = otherInstance.prepareStatement("SELECT pg_notify('task_changes', ?)")) {
+            notify.setString(1, objectMapper.writeValueAsString(TaskChangeEvent.of(ChangeType.DELETED, 4242L)));
+            notify.execute();
+        }
+
+        assertThat(awaitContent(stream, "4242")).contains("\"type\":\"DELETED\"");
+    }
+
+    private static TaskRequest taskRequest(String title) {
+        return TaskRequest.builder().title(title).status(TODO).build();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        Instant deadline = Instant.now().plus(DELIVERY_TIMEOUT);
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            content = response.getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+import uk.gov.hmcts.reform.dev.service.TaskTombstonePruner;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.IN_PROGRESS;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+// Pruned only when a test asks, and then every tombstone goes
+@SpringBootTest(properties = "tasks.change-sync.tombstone-retention=0s")
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Changes Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskChangesIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("changesdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskTombstonePruner taskTombstonePruner;
+
+    private List<Task> saved;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        saved = taskRepository.saveAll(List.of(task("Unchanged"), task("Updated"), task("Deleted")));
+    }
+
+    @Test
+    @DisplayName("should return only tasks changed since the version plus deleted ids")
+    void shouldReturnChangesSinceVersion() throws Exception {
+        long version = sync(0).version();
+
+        taskService.updateTaskStatus(saved.get(1).getId(), IN_PROGRESS, null);
+        taskService.deleteTask(saved.get(2).getId());
+        Long createdId = taskService.createTask(TaskRequest.builder().title("Created").status(TODO).build()).getId();
+
+        Delta delta = sync(version);
+
+        assertThat(delta.changedIds()).containsExactlyInAnyOrder(saved.get(1).getId(), createdId);
+        assertThat(delta.deletedIds()).containsExactly(saved.get(2).getId());
+        assertThat(delta.version()).isGreaterThan(version);
+        assertThat(sync(delta.version()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should hold back changes until older transactions have committed")
+    void shouldHoldBackUntilOlderTransactionsCommit() throws Exception {
+        long version = sync(0).version();
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> {
+                taskRepository.updateStatusById(saved.get(0).getId(), COMPLETED.name(), LocalDateTime.now(), null);
+                updated.countDown();
+                await(release);
+            })
+        );
+        await(updated);
+        taskService.updateTaskStatus(saved.get(1).getId(), IN_PROGRESS, null);
+
+        assertThat(sync(version).isEmpty()).isTrue();
+
+        release.countDown();
+        slowWriter.get(10, TimeUnit.SECONDS);
+
+        assertThat(sync(version).changedIds()).containsExactlyInAnyOrder(saved.get(0).getId(), saved.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("should record purged tasks as deleted")
+    void shouldRecordPurgedTasksAsDeleted() throws Exception {
+        taskService.updateTaskStatus(saved.get(0).getId(), COMPLETED, null);
+        long version = sync(0).version();
+
+        taskService.purgeClosedTasks(LocalDateTime.now().plusMinutes(1));
+
+        assertThat(sync(version).deletedIds()).containsExactly(saved.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("should tell a client to reload once deletes it has not seen are pruned")
+    void shouldResetClientBehindPrunedDeletes() throws Exception {
+        long version = sync(0).version();
+        taskService.deleteTask(saved.get(2).getId());
+
+        assertThat(taskTombstonePruner.prune()).isPositive();
+
+        JsonNode page = changes(get("/api/tasks/get-task-changes").param("since", Long.toString(version)));
+        List<Long> reloaded = new ArrayList<>();
+        page.get("tasks").forEach(task -> reloaded.add(task.get("id").asLong()));
+        assertThat(page.get("reset").asBoolean()).isTrue();
+        assertThat(reloaded).containsExactlyInAnyOrder(saved.get(0).getId(), saved.get(1).getId());
+
+        JsonNode next = changes(get("/api/tasks/get-task-changes").param("since", page.get("version").asText()));
+        assertThat(next.get("reset").asBoolean()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should page through changes within a single sync")
+    void shouldPageThroughChanges() throws Exception {
+        List<Long> changed = new ArrayList<>();
+        JsonNode page = changes(get("/api/tasks/get-task-changes").param("size", "2"));
+        page.get("tasks").forEach(task -> changed.add(task.get("id").asLong()));
+        while (page.hasNonNull("nextPageToken")) {
+            page = changes(get("/api/tasks/get-task-changes")
+                .param("size", "2")
+                .param("pageToken", page.get("nextPageToken").asText()));
+            page.get("tasks").forEach(task -> changed.add(task.get("id").asLong()));
+        }
+
+        assertThat(changed).containsExactlyInAnyOrderElementsOf(saved.stream().map(Task::getId).toList());
+    }
+
+    private Delta sync(long since) throws Exception {
+        List<Long> changedIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        JsonNode page = changes(get("/api/tasks/get-task-changes").param("since", Long.toString(since)));
+        while (true) {
+            page.get("tasks").forEach(task -> changedIds.add(task.get("id").asLong()));
+            page.get("deletedIds").forEach(id -> deletedIds.add(id.asLong()));
+            if (!page.hasNonNull("nextPageToken")) {
+                return new Delta(changedIds, deletedIds, page.get("version").asLong());
+            }
+            page = changes(get("/api/tasks/get-task-changes").param("pageToken", page.get("nextPageToken").asText()));
+        }
+    }
+
+    private JsonNode changes(MockHttpServletRequestBuilder builder) throws Exception {
+        String body = mockMvc.perform(builder)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Task task(String title) {
+        return Task.builder().title(title).status(TODO).build();
+    }
+
+    private record Delta(List<Long> changedIds, List<Long> deletedIds, long version) {
+
+        boolean isEmpty() {
+            return changedIds.isEmpty() && deletedIds.isEmpty();
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -15,12 +17,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.entity.Task;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -32,6 +39,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.config.CacheConfig.TASKS_CACHE;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.CANCELLED;
 import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
 import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.IN_PROGRESS;
 import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
@@ -61,17 +70,21 @@ class TaskControllerIT {
     private final MockMvc mockMvc;
     private final ObjectMapper objectMapper;
     private final TaskRepository taskRepository;
+    private final Cache tasksCache;
 
     @Autowired
-    TaskControllerIT(MockMvc mockMvc, ObjectMapper objectMapper, TaskRepository taskRepository) {
+    TaskControllerIT(MockMvc mockMvc, ObjectMapper objectMapper, TaskRepository taskRepository,
+                     CacheManager cacheManager) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.taskRepository = taskRepository;
+        this.tasksCache = requireNonNull(cacheManager.getCache(TASKS_CACHE));
     }
 
     @BeforeEach
     void setUp() {
         taskRepository.deleteAll();
+        tasksCache.clear();
     }
 
     @Nested
@@ -138,6 +151,48 @@ class TaskControllerIT {
         }
     }
 
+    @Nested
+    @DisplayName("Create Tasks In Bulk")
+    class CreateTasksInBulk {
+
+        @Test
+        @DisplayName("should create valid tasks and report rejected ones")
+        void shouldCreateValidTasksAndReportRejected() throws Exception {
+            List<TaskRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                requests.add(TaskRequest.builder()
+                                 .title("Bulk Task " + i)
+                                 .status(TODO)
+                                 .build());
+            }
+            requests.add(TaskRequest.builder()
+                             .title("")
+                             .status(TODO)
+                             .build());
+
+            mockMvc.perform(post("/api/tasks/bulk-create-tasks")
+                                .contentType(APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(120))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].task.id").exists())
+                .andExpect(jsonPath("$.results[119].task.title").value("Bulk Task 119"))
+                .andExpect(jsonPath("$.results[120].outcome").value("REJECTED"));
+
+            assertThat(taskRepository.count()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("should return 400 when request is empty")
+        void shouldReturn400WhenRequestIsEmpty() throws Exception {
+            mockMvc.perform(post("/api/tasks/bulk-create-tasks")
+                                .contentType(APPLICATION_JSON)
+                                .content("[]"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("Get Task By ID")
     class GetTaskById {
@@ -166,6 +221,47 @@ class TaskControllerIT {
             mockMvc.perform(get("/api/tasks/999/get-task"))
                 .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("should serve repeated reads from the cache")
+        void shouldServeRepeatedReadsFromCache() throws Exception {
+            Task task = taskRepository.save(Task.builder()
+                                                .title("Cached Task")
+                                                .status(TODO)
+                                                .build());
+
+            mockMvc.perform(get("/api/tasks/{id}/get-task", task.getId()))
+                .andExpect(status().isOk());
+
+            TaskResponse cached = tasksCache.get(task.getId(), TaskResponse.class);
+            assertThat(cached).isNotNull();
+            assertThat(cached.getTitle()).isEqualTo("Cached Task");
+        }
+
+        @Test
+        @DisplayName("should not return stale task after status update or delete")
+        void shouldNotReturnStaleTaskAfterWrite() throws Exception {
+            Task task = taskRepository.save(Task.builder()
+                                                .title("Cached Task")
+                                                .status(TODO)
+                                                .build());
+
+            mockMvc.perform(get("/api/tasks/{id}/get-task", task.getId()))
+                .andExpect(jsonPath("$.status").value("TODO"));
+
+            mockMvc.perform(patch("/api/tasks/{id}/status", task.getId())
+                                .param("status", "COMPLETED"))
+                .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/tasks/{id}/get-task", task.getId()))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+            mockMvc.perform(delete("/api/tasks/{id}/delete-task", task.getId()))
+                .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/tasks/{id}/get-task", task.getId()))
+                .andExpect(status().isNotFound());
+        }
     }
 
     @Nested
@@ -208,6 +304,131 @@ class TaskControllerIT {
         }
     }
 
+    @Nested
+    @DisplayName("Get Tasks Page")
+    class GetTasksPage {
+
+        @Test
+        @DisplayName("should page through all tasks using next page token")
+        void shouldPageThroughAllTasks() throws Exception {
+            for (int i = 1; i <= 5; i++) {
+                taskRepository.save(Task.builder()
+                                        .title("Task " + i)
+                                        .status(TODO)
+                                        .build());
+            }
+
+            String firstPage = mockMvc.perform(get("/api/tasks/get-tasks").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(3))
+                .andExpect(jsonPath("$.tasks[0].title").value("Task 1"))
+                .andExpect(jsonPath("$.tasks[2].title").value("Task 3"))
+                .andExpect(jsonPath("$.next").exists())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            String token = objectMapper.readTree(firstPage).get("nextPageToken").asText();
+
+            mockMvc.perform(get("/api/tasks/get-tasks")
+                                .param("size", "3")
+                                .param("pageToken", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.tasks[0].title").value("Task 4"))
+                .andExpect(jsonPath("$.tasks[1].title").value("Task 5"))
+                .andExpect(jsonPath("$.nextPageToken").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should return 400 when page size is too large")
+        void shouldReturn400WhenPageSizeTooLarge() throws Exception {
+            mockMvc.perform(get("/api/tasks/get-tasks").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tasks")
+    class QueryTasks {
+
+        @Test
+        @DisplayName("should return overdue open tasks sorted by due date across pages")
+        void shouldReturnOverdueTasksSortedByDueDate() throws Exception {
+            LocalDateTime now = LocalDateTime.now();
+            taskRepository.save(Task.builder().title("Overdue 2").status(IN_PROGRESS)
+                                    .dueDateTime(now.minusDays(1)).build());
+            taskRepository.save(Task.builder().title("Overdue 1").status(TODO)
+                                    .dueDateTime(now.minusDays(3)).build());
+            taskRepository.save(Task.builder().title("Overdue 3").status(TODO)
+                                    .dueDateTime(now.minusHours(1)).build());
+            taskRepository.save(Task.builder().title("Done Late").status(COMPLETED)
+                                    .dueDateTime(now.minusDays(2)).build());
+            taskRepository.save(Task.builder().title("Not Due").status(TODO)
+                                    .dueDateTime(now.plusDays(2)).build());
+            taskRepository.save(Task.builder().title("No Due Date").status(TODO).build());
+
+            String firstPage = mockMvc.perform(get("/api/tasks/query-tasks")
+                                                   .param("overdue", "true")
+                                                   .param("sort", "DUE_DATE_TIME")
+                                                   .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.tasks[0].title").value("Overdue 1"))
+                .andExpect(jsonPath("$.tasks[1].title").value("Overdue 2"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+            String token = objectMapper.readTree(firstPage).get("nextPageToken").asText();
+
+            mockMvc.perform(get("/api/tasks/query-tasks")
+                                .param("overdue", "true")
+                                .param("sort", "DUE_DATE_TIME")
+                                .param("size", "2")
+                                .param("pageToken", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value("Overdue 3"))
+                .andExpect(jsonPath("$.nextPageToken").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should filter by status set and due date range in descending order")
+        void shouldFilterByStatusAndDueRange() throws Exception {
+            LocalDateTime now = LocalDateTime.now();
+            taskRepository.save(Task.builder().title("In Range Todo").status(TODO)
+                                    .dueDateTime(now.plusDays(1)).build());
+            taskRepository.save(Task.builder().title("In Range Done").status(COMPLETED)
+                                    .dueDateTime(now.plusDays(2)).build());
+            taskRepository.save(Task.builder().title("In Range Cancelled").status(CANCELLED)
+                                    .dueDateTime(now.plusDays(3)).build());
+            taskRepository.save(Task.builder().title("Out Of Range").status(TODO)
+                                    .dueDateTime(now.plusDays(10)).build());
+
+            mockMvc.perform(get("/api/tasks/query-tasks")
+                                .param("status", "TODO", "COMPLETED")
+                                .param("dueFrom", now.toString())
+                                .param("dueTo", now.plusDays(5).toString())
+                                .param("sort", "DUE_DATE_TIME")
+                                .param("direction", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.tasks[0].title").value("In Range Done"))
+                .andExpect(jsonPath("$.tasks[1].title").value("In Range Todo"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when range is empty")
+        void shouldReturn400WhenRangeIsEmpty() throws Exception {
+            String now = LocalDateTime.now().toString();
+            mockMvc.perform(get("/api/tasks/query-tasks")
+                                .param("createdFrom", now)
+                                .param("createdTo", now))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("Update Task Status")
     class UpdateTaskStatus {
@@ -228,6 +449,8 @@ class TaskControllerIT {
 
             Task updatedTask = taskRepository.findById(task.getId()).orElseThrow();
             assertThat(updatedTask.getStatus()).isEqualTo(COMPLETED);
+            assertThat(updatedTask.getTitle()).isEqualTo("Test Task");
+            assertThat(updatedTask.getUpdatedAt()).isAfter(task.getUpdatedAt());
         }
 
         @Test
@@ -252,6 +475,71 @@ class TaskControllerIT {
         }
     }
 
+    @Nested
+    @DisplayName("Update Task Statuses In Bulk")
+    class UpdateTaskStatusesInBulk {
+
+        @Test
+        @DisplayName("should update tasks by id and report missing ids")
+        void shouldUpdateTasksByIdAndReportMissing() throws Exception {
+            Task first = taskRepository.save(Task.builder().title("First").status(TODO).build());
+            Task second = taskRepository.save(Task.builder().title("Second").status(IN_PROGRESS).build());
+
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .ids(List.of(first.getId(), second.getId(), 999_999L))
+                .status(COMPLETED)
+                .build();
+
+            mockMvc.perform(patch("/api/tasks/bulk-update-status")
+                                .contentType(APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(999_999L));
+
+            assertThat(taskRepository.findAll())
+                .extracting(Task::getStatus)
+                .containsOnly(COMPLETED);
+        }
+
+        @Test
+        @DisplayName("should update only overdue tasks in the given status")
+        void shouldUpdateOverdueTasksInStatus() throws Exception {
+            Task overdue = taskRepository.save(Task.builder()
+                                                   .title("Overdue")
+                                                   .status(IN_PROGRESS)
+                                                   .dueDateTime(LocalDateTime.now().minusDays(1))
+                                                   .build());
+            Task notDue = taskRepository.save(Task.builder()
+                                                  .title("Not Due")
+                                                  .status(IN_PROGRESS)
+                                                  .dueDateTime(LocalDateTime.now().plusDays(1))
+                                                  .build());
+            Task otherStatus = taskRepository.save(Task.builder()
+                                                       .title("Other Status")
+                                                       .status(TODO)
+                                                       .dueDateTime(LocalDateTime.now().minusDays(1))
+                                                       .build());
+
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .currentStatus(IN_PROGRESS)
+                .dueBefore(LocalDateTime.now())
+                .status(COMPLETED)
+                .build();
+
+            mockMvc.perform(patch("/api/tasks/bulk-update-status")
+                                .contentType(APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+            assertThat(taskRepository.findById(overdue.getId()).orElseThrow().getStatus()).isEqualTo(COMPLETED);
+            assertThat(taskRepository.findById(notDue.getId()).orElseThrow().getStatus()).isEqualTo(IN_PROGRESS);
+            assertThat(taskRepository.findById(otherStatus.getId()).orElseThrow().getStatus()).isEqualTo(TODO);
+        }
+    }
+
     @Nested
     @DisplayName("Update Task")
     class UpdateTask {
@@ -288,6 +576,40 @@ class TaskControllerIT {
             assertThat(updatedTask.getUpdatedAt()).isAfter(updatedTask.getCreatedAt());
         }
 
+        @Test
+        @DisplayName("should reject an update based on a stale ETag with 412")
+        void shouldRejectUpdateWithStaleETag() throws Exception {
+            Task task = taskRepository.save(Task.builder().title("Original Title").status(TODO).build());
+            String readETag = mockMvc.perform(get("/api/tasks/{id}/get-task", task.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+            mockMvc.perform(put("/api/tasks/{id}/update-task", task.getId())
+                                .header("If-Match", readETag)
+                                .contentType(APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                    TaskRequest.builder().title("First Writer").status(IN_PROGRESS).build())))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + (task.getVersion() + 1) + "\""));
+
+            mockMvc.perform(put("/api/tasks/{id}/update-task", task.getId())
+                                .header("If-Match", readETag)
+                                .contentType(APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                    TaskRequest.builder().title("Second Writer").status(TODO).build())))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.title").value("Precondition Failed"));
+            mockMvc.perform(patch("/api/tasks/{id}/status", task.getId())
+                                .param("status", "CANCELLED")
+                                .header("If-Match", readETag))
+                .andExpect(status().isPreconditionFailed());
+
+            Task current = taskRepository.findById(task.getId()).orElseThrow();
+            assertThat(current.getTitle()).isEqualTo("First Writer");
+            assertThat(current.getStatus()).isEqualTo(IN_PROGRESS);
+        }
+
         @Test
         @DisplayName("should return 404 when task not found")
         void shouldReturn404WhenTaskNotFound() throws Exception {
@@ -346,6 +668,21 @@ class TaskControllerIT {
             mockMvc.perform(delete("/api/tasks/999/delete-task"))
                 .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("should purge only closed tasks older than the cutoff")
+        void shouldPurgeOnlyClosedTasks() throws Exception {
+            taskRepository.save(Task.builder().title("Done").status(COMPLETED).build());
+            taskRepository.save(Task.builder().title("Dropped").status(CANCELLED).build());
+            Task open = taskRepository.save(Task.builder().title("Open").status(TODO).build());
+
+            mockMvc.perform(delete("/api/tasks/purge-closed-tasks")
+                                .param("olderThan", LocalDateTime.now().plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+            assertThat(taskRepository.findAll()).extracting(Task::getId).containsExactly(open.getId());
+        }
     }
 
     @Nested
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.logging.RequestIdFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Metrics Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskMetricsIT {
+
+    private static final String CREATE_TASK = "endpoint=\"/api/tasks/create-task\"";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("metricsdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("should publish service, per-request JDBC and pool metrics for Prometheus")
+    void shouldPublishPrometheusMetrics() throws Exception {
+        mockMvc.perform(post("/api/tasks/create-task")
+                .header(RequestIdFilter.HEADER, "metrics-it")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TaskRequest.builder().title("Timed").status(TODO).build())))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(RequestIdFilter.HEADER, "metrics-it"));
+
+        String scrape = mockMvc.perform(get("/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThat(scrape)
+            .containsPattern("tasks_service_seconds_bucket\\{.*method=\"createTask\"")
+            .containsPattern("tasks_request_jdbc_statements_count\\{" + CREATE_TASK + ",method=\"POST\"")
+            .containsPattern("tasks_request_jdbc_time_seconds_bucket\\{" + CREATE_TASK)
+            .contains("hikaricp_connections_acquire_seconds_bucket");
+    }
+}
@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.entity.OutboxEvent;
+import uk.gov.hmcts.reform.dev.outbox.OutboxRelay;
+import uk.gov.hmcts.reform.dev.repository.OutboxEventRepository;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest(properties = {
+    "tasks.outbox.sink=file",
+    "tasks.outbox.batch-size=1",
+    // Relayed by the tests themselves
+    "tasks.outbox.poll-interval=1h"
+})
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Outbox Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskOutboxIT {
+
+    @TempDir
+    static Path outboxDirectory;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("outboxdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("tasks.outbox.file", () -> outboxFile().toString());
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        outboxEventRepository.deleteAll();
+        Files.deleteIfExists(outboxFile());
+    }
+
+    @Test
+    @DisplayName("should publish every committed change in order and empty the outbox")
+    void shouldPublishCommittedChanges() throws Exception {
+        Long id = taskService.createTask(taskRequest("Published task")).getId();
+        taskService.updateTaskStatus(id, COMPLETED, null);
+        taskService.deleteTask(id);
+
+        outboxRelay.drain();
+
+        assertThat(published()).extracting(message -> message.get("eventType").asText())
+            .containsExactly("CREATED", "STATUS_CHANGED", "DELETED");
+        assertThat(published()).allSatisfy(message -> assertThat(message.get("taskId").asLong()).isEqualTo(id));
+        assertThat(published().getFirst().get("payload").get("task").get("title").asText())
+            .isEqualTo("Published task");
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should record bulk changes one task at a time")
+    void shouldRecordBulkChangesPerTask() throws Exception {
+        LocalDateTime overdue = LocalDateTime.now().minusDays(1);
+        List<Long> ids = taskService.createTasks(List.of(
+                TaskRequest.builder().title("Bulk one").status(TODO).dueDateTime(overdue).build(),
+                TaskRequest.builder().title("Bulk two").status(TODO).dueDateTime(overdue).build()))
+            .getResults().stream()
+            .map(result -> result.getTask().getId())
+            .toList();
+        taskService.updateTaskStatuses(BulkStatusUpdateRequest.builder()
+            .dueBefore(LocalDateTime.now())
+            .status(COMPLETED)
+            .build());
+        taskService.purgeClosedTasks(LocalDateTime.now().plusMinutes(1));
+
+        outboxRelay.drain();
+
+        assertThat(published()).extracting(message -> message.get("eventType").asText())
+            .containsExactly("CREATED", "CREATED", "STATUS_CHANGED", "STATUS_CHANGED", "DELETED", "DELETED");
+        assertThat(published()).extracting(message -> message.get("taskId").asLong())
+            .containsExactlyInAnyOrder(ids.get(0), ids.get(1), ids.get(0), ids.get(1), ids.get(0), ids.get(1));
+        // Written by one set-based insert, which keeps the order the tasks were created in
+        assertThat(published().subList(0, 2)).extracting(message -> message.get("taskId").asLong())
+            .containsExactlyElementsOf(ids);
+        assertThat(published().getFirst().get("payload").get("task").get("title").asText())
+            .isEqualTo("Bulk one");
+    }
+
+    @Test
+    @DisplayName("should not record changes that roll back")
+    void shouldNotRecordRolledBackChanges() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(taskRequest("Rolled back task"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should skip events another relay has locked")
+    void shouldSkipLockedEvents() throws Exception {
+        taskService.createTask(taskRequest("Locked elsewhere"));
+        taskService.createTask(taskRequest("Free to publish"));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherRelay = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> {
+                List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(1);
+                assertThat(batch.getFirst().getPayload()).contains("Locked elsewhere");
+                locked.countDown();
+                await(release);
+            })
+        );
+        await(locked);
+
+        outboxRelay.drain();
+
+        assertThat(published()).singleElement()
+            .satisfies(message -> assertThat(message.get("payload").toString()).contains("Free to publish"));
+        release.countDown();
+        otherRelay.get(10, TimeUnit.SECONDS);
+
+        outboxRelay.drain();
+        assertThat(published()).hasSize(2);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private List<JsonNode> published() throws Exception {
+        List<JsonNode> messages = new ArrayList<>();
+        if (Files.exists(outboxFile())) {
+            for (String line : Files.readAllLines(outboxFile())) {
+                messages.add(objectMapper.readTree(line));
+            }
+        }
+        return messages;
+    }
+
+    private static Path outboxFile() {
+        return outboxDirectory.resolve("outbox.ndjson");
+    }
+
+    private static TaskRequest taskRequest(String title) {
+        return TaskRequest.builder().title(title).status(TODO).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskSortKey;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+/**
+ * Runs each query through the service, captures the SQL Hibernate sent and its parameters, and
+ * explains it twice: with the parameters bound, as the first executions of a statement are planned,
+ * and as a generic plan, which Postgres may switch to once the driver has prepared the statement.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Query Index Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskQueryIndexIT {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("indexdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        // Cached page results would leave nothing to capture
+        registry.add("tasks.second-level-cache.enabled", () -> "false");
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @BeforeEach
+    void seedTasks() {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM tasks", Long.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.update("""
+            INSERT INTO tasks (id, title, status, due_date_time, created_at, updated_at)
+            SELECT nextval('tasks_id_seq'),
+                   'Task ' || n,
+                   CASE WHEN n % 50 = 0 THEN 'TODO' WHEN n % 50 = 1 THEN 'IN_PROGRESS' ELSE 'COMPLETED' END,
+                   now() - (n % 365) * interval '1 day',
+                   now() - n * interval '1 minute',
+                   now() - n * interval '1 minute'
+            FROM generate_series(1, 50000) AS n
+            """);
+        jdbcTemplate.execute("ANALYZE tasks");
+    }
+
+    @Test
+    @DisplayName("overdue query should use the partial open tasks index on every page")
+    void overdueQueryShouldUsePartialIndex() {
+        TaskQueryRequest query = query(TaskSortKey.DUE_DATE_TIME);
+        query.setOverdue(true);
+
+        assertEveryPageUses(query, "idx_tasks_open_due_date_time_id");
+    }
+
+    @Test
+    @DisplayName("status query sorted by creation date should use the status index on every page")
+    void statusQueryShouldUseStatusIndex() {
+        TaskQueryRequest query = query(TaskSortKey.CREATED_AT);
+        query.setStatus(List.of(TODO));
+
+        assertEveryPageUses(query, "idx_tasks_status_created_at_id");
+    }
+
+    @Test
+    @DisplayName("query sorted by update time should use the updated_at index on every page")
+    void updatedAtQueryShouldUseIndex() {
+        assertEveryPageUses(query(TaskSortKey.UPDATED_AT), "idx_tasks_updated_at_id");
+    }
+
+    @Test
+    @DisplayName("query sorted newest first should scan the created_at index backwards from the cursor")
+    void descendingQueryShouldUseIndex() {
+        TaskQueryRequest query = query(TaskSortKey.CREATED_AT);
+        query.setDirection(Sort.Direction.DESC);
+
+        assertEveryPageUses(query, "idx_tasks_created_at_id");
+    }
+
+    @Test
+    @DisplayName("get-tasks should use the created_at index on every page")
+    void getTasksShouldUseCreatedAtIndex() {
+        TaskPageResponse firstPage = capturePage(() -> taskService.getTasks(null, PAGE_SIZE));
+        assertUsesIndex(statementCapture.last(), "idx_tasks_created_at_id");
+
+        capturePage(() -> taskService.getTasks(firstPage.getNextPageToken(), PAGE_SIZE));
+        assertUsesIndex(statementCapture.last(), "idx_tasks_created_at_id");
+    }
+
+    private void assertEveryPageUses(TaskQueryRequest query, String index) {
+        TaskPageResponse firstPage = capturePage(() -> taskService.queryTasks(query));
+        assertUsesIndex(statementCapture.last(), index);
+        assertThat(firstPage.getNextPageToken()).isNotNull();
+
+        query.setPageToken(firstPage.getNextPageToken());
+        capturePage(() -> taskService.queryTasks(query));
+        CapturedStatement secondPage = statementCapture.last();
+        assertUsesIndex(secondPage, index);
+        // The page starts at the cursor rather than filtering its way there from the start of the index
+        assertThat(explain(secondPage)).contains("Index Cond");
+    }
+
+    private TaskPageResponse capturePage(Supplier<TaskPageResponse> page) {
+        statementCapture.clear();
+        return page.get();
+    }
+
+    private void assertUsesIndex(CapturedStatement statement, String index) {
+        assertThat(explain(statement)).as("plan for %s", statement.sql()).contains(index);
+        assertThat(explainGeneric(statement)).as("generic plan for %s", statement.sql()).contains(index);
+    }
+
+    private String explain(CapturedStatement statement) {
+        return jdbcTemplate.query("EXPLAIN " + statement.sql(), preparedStatement -> {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                preparedStatement.setObject(parameter.getKey(), parameter.getValue());
+            }
+        }, (ResultSetExtractor<String>) TaskQueryIndexIT::plan);
+    }
+
+    // Postgres 15 has no EXPLAIN (GENERIC_PLAN), so prepare the statement and force a generic plan
+    private String explainGeneric(CapturedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement session = connection.createStatement()) {
+                session.execute("SET plan_cache_mode = force_generic_plan");
+                session.execute("PREPARE explained AS " + statement.numberedSql());
+                String execute = "EXPLAIN EXECUTE explained(" + statement.literals() + ")";
+                try (ResultSet plan = session.executeQuery(execute)) {
+                    return plan(plan);
+                } finally {
+                    session.execute("DEALLOCATE explained");
+                    session.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+    }
+
+    private static String plan(ResultSet rows) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        while (rows.next()) {
+            lines.add(rows.getString(1));
+        }
+        return String.join("\n", lines);
+    }
+
+    private static TaskQueryRequest query(TaskSortKey sort) {
+        TaskQueryRequest query = new TaskQueryRequest();
+        query.setSort(sort);
+        query.setSize(PAGE_SIZE);
+        return query;
+    }
+
+    record CapturedStatement(String sql, SortedMap<Integer, Object> parameters) {
+
+        String numberedSql() {
+            StringBuilder numbered = new StringBuilder();
+            int next = 1;
+            for (char each : sql.toCharArray()) {
+                if (each == '?') {
+                    numbered.append('$').append(next++);
+                } else {
+                    numbered.append(each);
+                }
+            }
+            return numbered.toString();
+        }
+
+        String literals() {
+            List<String> literals = new ArrayList<>();
+            for (Object value : parameters.values()) {
+                if (value == null) {
+                    literals.add("NULL");
+                } else if (value instanceof Number) {
+                    literals.add(value.toString());
+                } else {
+                    literals.add("'" + value.toString().replace("'", "''") + "'");
+                }
+            }
+            return String.join(", ", literals);
+        }
+    }
+
+    /**
+     * Picked up by the JDBC listener proxy in {@code JdbcMetricsConfig} like any other listener, so
+     * it sees exactly what Hibernate sends to the driver.
+     */
+    static class StatementCapture implements QueryExecutionListener {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (!queryInfo.getQuery().stripLeading().toLowerCase().startsWith("select")) {
+                    continue;
+                }
+                SortedMap<Integer, Object> parameters = new TreeMap<>();
+                for (List<ParameterSetOperation> operations : queryInfo.getParametersList()) {
+                    for (ParameterSetOperation operation : operations) {
+                        Object[] args = operation.getArgs();
+                        boolean setNull = "setNull".equals(operation.getMethod().getName());
+                        parameters.put((Integer) args[0], setNull ? null : args[1]);
+                    }
+                }
+                statements.add(new CapturedStatement(queryInfo.getQuery(), parameters));
+            }
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        CapturedStatement last() {
+            assertThat(statements).isNotEmpty();
+            return statements.getLast();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+import static uk.gov.hmcts.reform.dev.replica.ReadYourWritesInterceptor.CLIENT_ID_HEADER;
+
+/**
+ * The replica is a second, independent database rather than a streaming standby, so a row that
+ * exists on only one of the two shows which of them served a read.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Task Read Replica Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskReadReplicaIT {
+
+    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(10);
+    private static final String REPLICA_ONLY_TITLE = "Only on the replica";
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("primarydb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("replicadb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("tasks.read-replicas.urls", replica::getJdbcUrl);
+        registry.add("tasks.read-replicas.username", replica::getUsername);
+        registry.add("tasks.read-replicas.password", replica::getPassword);
+        registry.add("tasks.read-replicas.health-check-interval", () -> "200ms");
+        registry.add("tasks.read-replicas.read-your-writes-window", () -> "1h");
+        // Cached results would hide which database served a read
+        registry.add("tasks.second-level-cache.enabled", () -> "false");
+    }
+
+    @BeforeAll
+    static void seedReplica() throws SQLException {
+        Flyway.configure()
+            .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+            .load()
+            .migrate();
+        try (Connection connection = DriverManager.getConnection(
+                 replica.getJdbcUrl(), replica.getUsername(), replica.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO tasks (id, title, status) VALUES (1000000, '"
+                + REPLICA_ONLY_TITLE + "', 'TODO')");
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Order(1)
+    @DisplayName("should serve read-only requests from the replica")
+    void shouldReadFromReplica() throws Exception {
+        awaitReplicaUsable(true);
+
+        assertThat(allTasks("reader")).contains(REPLICA_ONLY_TITLE);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("should keep a client's reads on the primary after its own write")
+    void shouldReadOwnWritesFromPrimary() throws Exception {
+        awaitReplicaUsable(true);
+        mockMvc.perform(post("/api/tasks/create-task")
+                .header(CLIENT_ID_HEADER, "writer")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    TaskRequest.builder().title("Written to the primary").status(TODO).build())))
+            .andExpect(status().isCreated());
+
+        assertThat(allTasks("writer")).contains("Written to the primary").doesNotContain(REPLICA_ONLY_TITLE);
+        assertThat(allTasks("other reader")).contains(REPLICA_ONLY_TITLE).doesNotContain("Written to the primary");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("should fall back to the primary once the replica goes down")
+    void shouldFallBackWhenReplicaIsDown() throws Exception {
+        replica.stop();
+        awaitReplicaUsable(false);
+
+        assertThat(allTasks("reader")).doesNotContain(REPLICA_ONLY_TITLE);
+    }
+
+    private String allTasks(String clientId) throws Exception {
+        return mockMvc.perform(get("/api/tasks/get-all-tasks").header(CLIENT_ID_HEADER, clientId))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    }
+
+    private void awaitReplicaUsable(boolean usable) throws InterruptedException {
+        Instant deadline = Instant.now().plus(HEALTH_CHECK_TIMEOUT);
+        double expected = usable ? 1 : 0;
+        while (replicaUsable() != expected && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+        assertThat(replicaUsable()).isEqualTo(expected);
+    }
+
+    private double replicaUsable() {
+        return meterRegistry.get("tasks.read-replicas.usable").tag("replica", "replica-1").gauge().value();
+    }
+}
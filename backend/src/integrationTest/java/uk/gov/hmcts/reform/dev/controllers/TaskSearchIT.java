@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Search Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskSearchIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("searchdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        taskRepository.saveAll(List.of(
+            task("Prepare hearing bundle", "Collate witness statements"),
+            task("Book interpreter", "Needed for the hearing on Monday"),
+            task("File appeal", "Case reference AB-12345"),
+            task("Chase payment", "Invoice outstanding")
+        ));
+    }
+
+    @Test
+    @DisplayName("should rank title matches above description matches and stem terms")
+    void shouldRankTitleMatchesFirst() throws Exception {
+        assertThat(searchTitles("hearings", 50)).containsExactly("Prepare hearing bundle", "Book interpreter");
+    }
+
+    @Test
+    @DisplayName("should match substrings that full-text search does not tokenise")
+    void shouldMatchSubstrings() throws Exception {
+        assertThat(searchTitles("12345", 50)).containsExactly("File appeal");
+        assertThat(searchTitles("ndle", 50)).containsExactly("Prepare hearing bundle");
+    }
+
+    @Test
+    @DisplayName("should honour web search operators")
+    void shouldHonourWebSearchOperators() throws Exception {
+        assertThat(searchTitles("hearing -interpreter", 50)).containsExactly("Prepare hearing bundle");
+    }
+
+    @Test
+    @DisplayName("should page through ranked results without gaps or duplicates")
+    void shouldPageThroughRankedResults() throws Exception {
+        List<Task> extra = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            extra.add(task("Hearing " + i, null));
+        }
+        taskRepository.saveAll(extra);
+
+        List<Long> ids = new ArrayList<>();
+        String pageToken = null;
+        do {
+            JsonNode page = search("hearing", pageToken, 2);
+            page.get("tasks").forEach(task -> ids.add(task.get("id").asLong()));
+            pageToken = page.hasNonNull("nextPageToken") ? page.get("nextPageToken").asText() : null;
+        } while (pageToken != null);
+
+        assertThat(ids).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("should return bad request for a query that is too short")
+    void shouldRejectShortQuery() throws Exception {
+        mockMvc.perform(get("/api/tasks/search-tasks").param("q", "ab"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private List<String> searchTitles(String query, int size) throws Exception {
+        List<String> titles = new ArrayList<>();
+        search(query, null, size).get("tasks").forEach(task -> titles.add(task.get("title").asText()));
+        return titles;
+    }
+
+    private JsonNode search(String query, String pageToken, int size) throws Exception {
+        var request = get("/api/tasks/search-tasks")
+            .param("q", query)
+            .param("size", String.valueOf(size));
+        if (pageToken != null) {
+            request.param("pageToken", pageToken);
+        }
+        String body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static Task task(String title, String description) {
+        return Task.builder()
+            .title(title)
+            .description(description)
+            .status(TODO)
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.config.SecondLevelCacheConfig.QUERY_RESULTS_REGION;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.CANCELLED;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.IN_PROGRESS;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Second-Level Cache Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskSecondLevelCacheIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("l2cachedb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        task = taskRepository.save(Task.builder().title("Cached task").status(TODO).build());
+    }
+
+    @Test
+    @DisplayName("should serve repeated lookups from the entity region")
+    void shouldServeRepeatedLookupsFromCache() {
+        taskRepository.findById(task.getId()).orElseThrow();
+        double hits = hits(Task.CACHE_REGION);
+
+        taskRepository.findById(task.getId()).orElseThrow();
+
+        assertThat(hits(Task.CACHE_REGION)).isGreaterThan(hits);
+    }
+
+    @Test
+    @DisplayName("should not serve a stale task after a native status update")
+    void shouldEvictAfterNativeStatusUpdate() throws Exception {
+        taskRepository.findById(task.getId()).orElseThrow();
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", task.getId()).param("status", "IN_PROGRESS"))
+            .andExpect(status().isOk());
+
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("should not serve stale tasks after bulk status updates")
+    void shouldEvictAfterBulkStatusUpdates() {
+        taskRepository.findById(task.getId()).orElseThrow();
+
+        taskService.updateTaskStatuses(BulkStatusUpdateRequest.builder()
+            .ids(List.of(task.getId()))
+            .status(COMPLETED)
+            .build());
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(COMPLETED);
+
+        taskService.updateTaskStatuses(BulkStatusUpdateRequest.builder()
+            .currentStatus(COMPLETED)
+            .status(CANCELLED)
+            .build());
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(CANCELLED);
+    }
+
+    @Test
+    @DisplayName("should cache the task list and drop it when tasks change")
+    void shouldCacheTaskListUntilTasksChange() throws Exception {
+        mockMvc.perform(get("/api/tasks/get-all-tasks")).andExpect(status().isOk());
+        double hits = hits(QUERY_RESULTS_REGION);
+
+        mockMvc.perform(get("/api/tasks/get-all-tasks"))
+            .andExpect(jsonPath("$.length()").value(1));
+        assertThat(hits(QUERY_RESULTS_REGION)).isGreaterThan(hits);
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", task.getId()).param("status", "COMPLETED"))
+            .andExpect(status().isOk());
+        taskRepository.save(Task.builder().title("New task").status(TODO).build());
+
+        mockMvc.perform(get("/api/tasks/get-all-tasks"))
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].status").value("COMPLETED"));
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets")
+            .tags("cache", region, "cache.manager", "hibernate", "result", "hit")
+            .functionCounter()
+            .count();
+    }
+}
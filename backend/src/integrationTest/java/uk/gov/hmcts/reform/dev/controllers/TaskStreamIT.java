@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.test.StepVerifier;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskReactiveRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Stream Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskStreamIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("streamdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+            postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName()));
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskReactiveRepository taskReactiveRepository;
+
+    private List<Task> saved;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        saved = taskRepository.saveAll(List.of(
+            task("Prepare hearing bundle"),
+            task("Book interpreter"),
+            task("File appeal")
+        ));
+    }
+
+    @Test
+    @DisplayName("should read a task written through JPA")
+    void shouldGetTaskById() throws Exception {
+        Long id = saved.getFirst().getId();
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream/" + id + "/get-task"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(id))
+            .andExpect(jsonPath("$.title").value("Prepare hearing bundle"))
+            .andExpect(jsonPath("$.status").value("TODO"));
+    }
+
+    @Test
+    @DisplayName("should return not found for a missing task")
+    void shouldReturnNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream/999999/get-task"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("should stream every task in creation order")
+    void shouldStreamAllTasks() throws Exception {
+        assertThat(streamTitles(get("/api/tasks/stream/get-all-tasks")))
+            .containsExactly("Prepare hearing bundle", "Book interpreter", "File appeal");
+    }
+
+    @Test
+    @DisplayName("should stream ranked search results")
+    void shouldStreamSearchResults() throws Exception {
+        assertThat(streamTitles(get("/api/tasks/stream/search-tasks").param("q", "appeal")))
+            .containsExactly("File appeal");
+    }
+
+    @Test
+    @DisplayName("should fetch rows on demand and release the connection on cancel")
+    void shouldFetchOnDemand() {
+        taskRepository.saveAll(IntStream.range(0, 500).mapToObj(i -> task("Bulk " + i)).toList());
+
+        StepVerifier.create(taskReactiveRepository.findAllOrderByCreatedAt(), 2)
+            .expectNextCount(2)
+            .thenCancel()
+            .verify();
+
+        StepVerifier.create(taskReactiveRepository.findById(saved.getFirst().getId()))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    private List<String> streamTitles(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder.accept(APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        List<String> titles = new ArrayList<>();
+        for (String line : body.lines().toList()) {
+            titles.add(objectMapper.readTree(line).get("title").asText());
+        }
+        return titles;
+    }
+
+    private static Task task(String title) {
+        return Task.builder()
+            .title(title)
+            .status(TODO)
+            .build();
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@SpringBootTest(properties = {
+    "management.tracing.enabled=true",
+    "management.tracing.sampling.probability=0",
+    "management.otlp.tracing.export.enabled=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Task Tracing Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskTracingIT {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final AttributeKey<String> DB_STATEMENT = AttributeKey.stringKey("db.statement");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("tracingdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @TestConfiguration
+    static class ExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    void setUp() {
+        exporter.reset();
+    }
+
+    @Test
+    @DisplayName("should continue the caller's sampled trace through the service and its statements")
+    void shouldContinueCallerTrace() throws Exception {
+        // Sampling is off for new traces, so anything recorded comes from following the caller
+        mockMvc.perform(post("/api/tasks/create-task")
+                .header("traceparent", "00-" + TRACE_ID + "-b7ad6b7169203331-01")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TaskRequest.builder().title("Traced").status(TODO).build())))
+            .andExpect(status().isCreated());
+
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+
+        assertThat(spans).isNotEmpty().allMatch(span -> span.getTraceId().equals(TRACE_ID));
+        SpanData service = spans.stream()
+            .filter(span -> span.getName().endsWith("#create-task"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(spans)
+            .filteredOn(span -> span.getName().equals("jdbc insert"))
+            .filteredOn(span -> span.getAttributes().get(DB_STATEMENT).startsWith("insert into tasks"))
+            .singleElement()
+            .satisfies(insert -> assertThat(insert.getParentSpanId()).isEqualTo(service.getSpanId()));
+    }
+
+    @Test
+    @DisplayName("should not record requests without a sampled caller when sampling is off")
+    void shouldNotRecordUnsampledRequests() throws Exception {
+        mockMvc.perform(post("/api/tasks/create-task")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TaskRequest.builder().title("Untraced").status(TODO).build())))
+            .andExpect(status().isCreated());
+
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    }
+}
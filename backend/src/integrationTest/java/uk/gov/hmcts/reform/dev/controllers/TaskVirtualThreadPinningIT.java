@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.IN_PROGRESS;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+/**
+ * Audits the JDBC path for virtual thread pinning. Far more virtual threads than pooled connections
+ * run real service calls, so they block both waiting for a Hikari connection and on pgjdbc socket
+ * I/O. JFR records every pinned park; none may come from HikariCP or the Postgres driver.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Testcontainers
+@DisplayName("Virtual Thread Pinning Integration Tests")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskVirtualThreadPinningIT {
+
+    private static final int POOL_SIZE = 4;
+    private static final int VIRTUAL_THREADS = 400;
+    private static final List<String> AUDITED_PACKAGES = List.of("com.zaxxer.hikari.", "org.postgresql.");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("pinningdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+        registry.add("spring.threads.virtual.enabled", () -> "true");
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    @DisplayName("HikariCP and pgjdbc should not pin carrier threads")
+    void jdbcPathShouldNotPinCarrierThreads() throws Exception {
+        Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            runConcurrentServiceCalls();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<String> pinnedInJdbc = RecordingFile.readAllEvents(dump).stream()
+            .filter(TaskVirtualThreadPinningIT::pinnedInAuditedPackage)
+            .map(event -> event.getStackTrace().getFrames().stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .toList()
+                .toString())
+            .toList();
+        Files.deleteIfExists(dump);
+
+        assertThat(pinnedInJdbc).as("pinned stacks in HikariCP or pgjdbc").isEmpty();
+    }
+
+    private void runConcurrentServiceCalls() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<TaskResponse>> calls = IntStream.range(0, VIRTUAL_THREADS)
+                .mapToObj(i -> executor.submit(() -> {
+                    TaskResponse created = taskService.createTask(TaskRequest.builder()
+                        .title("Pinning audit " + i)
+                        .status(TODO)
+                        .build());
+                    taskService.getTasks(null, 10);
+                    return taskService.updateTaskStatus(created.getId(), IN_PROGRESS, null);
+                }))
+                .toList();
+            for (Future<TaskResponse> call : calls) {
+                assertThat(call.get().getStatus()).isEqualTo(IN_PROGRESS);
+            }
+        }
+    }
+
+    private static boolean pinnedInAuditedPackage(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (AUDITED_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
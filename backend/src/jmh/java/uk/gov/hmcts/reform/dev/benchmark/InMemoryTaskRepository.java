@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Map backed stand-in for the methods of {@link TaskRepository} used on the service hot paths, so
+ * that service benchmarks measure mapping, paging and validation rather than JDBC. Tasks are kept in
+ * id order, which is also creation order, matching the keyset queries. Once {@code capacity} tasks
+ * are held, each insert evicts the oldest task so write benchmarks run in constant memory.
+ */
+final class InMemoryTaskRepository implements InvocationHandler {
+
+    private final NavigableMap<Long, Task> tasks = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int capacity;
+
+    InMemoryTaskRepository(int capacity) {
+        this.capacity = capacity;
+    }
+
+    TaskRepository proxy() {
+        return (TaskRepository) Proxy.newProxyInstance(
+            TaskRepository.class.getClassLoader(), new Class<?>[] {TaskRepository.class}, this
+        );
+    }
+
+    void seed(Task task) {
+        tasks.put(task.getId(), task);
+        sequence.accumulateAndGet(task.getId(), Math::max);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((Task) args[0]);
+            case "findById" -> Optional.ofNullable(tasks.get((Long) args[0]));
+            case "findAllById" -> findAllById((Iterable<?>) args[0]);
+            case "findAllByOrderByCreatedAtAsc" -> List.copyOf(tasks.values());
+            case "findFirstPage" -> limit(tasks.values(), (Integer) args[0]);
+            case "findPageAfter" -> limit(tasks.tailMap((Long) args[1], false).values(), (Integer) args[2]);
+            case "updateStatusById" ->
+                updateStatus((Long) args[0], (String) args[1], (LocalDateTime) args[2], (Long) args[3]);
+            case "deleteTaskById" -> tasks.remove((Long) args[0]) == null ? 0 : 1;
+            case "streamAllForExport" -> tasks.values().stream();
+            case "count" -> (long) tasks.size();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryTaskRepository[" + tasks.size() + " tasks]";
+            default -> throw new UnsupportedOperationException("Not stubbed: " + method.getName());
+        };
+    }
+
+    private Task save(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        if (task.getId() == null) {
+            task.setId(sequence.incrementAndGet());
+            task.setCreatedAt(now);
+            if (tasks.size() >= capacity) {
+                tasks.pollFirstEntry();
+            }
+        }
+        task.setUpdatedAt(now);
+        task.setVersion(task.getVersion() == null ? 0L : task.getVersion() + 1);
+        tasks.put(task.getId(), task);
+        return task;
+    }
+
+    private List<Task> findAllById(Iterable<?> ids) {
+        List<Task> found = new ArrayList<>();
+        for (Object id : ids) {
+            Task task = tasks.get((Long) id);
+            if (task != null) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    private Optional<Task> updateStatus(Long id, String status, LocalDateTime updatedAt, Long expectedVersion) {
+        Task task = tasks.get(id);
+        if (task == null || expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            return Optional.empty();
+        }
+        task.setStatus(TaskStatus.valueOf(status));
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(task.getVersion() + 1);
+        return Optional.of(task);
+    }
+
+    private static List<Task> limit(Collection<Task> tasks, int limit) {
+        return tasks.stream().limit(limit).toList();
+    }
+}
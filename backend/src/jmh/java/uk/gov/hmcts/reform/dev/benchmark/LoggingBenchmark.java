@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.logging.RequestLogSampler;
+import uk.gov.hmcts.reform.dev.logging.SampledRequestTurboFilter;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging done while creating one task, before and after the production logging profile. The legacy
+ * setup logs the whole request and the SQL statement at INFO/DEBUG; the production setup keeps the
+ * loggers at INFO and lets DEBUG through only for sampled requests. Output is encoded with the same
+ * pattern and discarded, so the difference comes from the log calls, levels and appender.
+ *
+ * <p>Run with {@code -prof gc}; {@code gc.alloc.rate.norm} is the allocation per create.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %m %kvp%n";
+    private static final String INSERT_SQL = "insert into tasks (created_at,description,due_date_time,status,"
+        + "title,updated_at,version) values (?,?,?,?,?,?,?) returning id";
+    private static final long TASK_ID = 42L;
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    private Loggers legacy;
+    private Loggers production;
+    private TaskRequest request;
+
+    @Setup
+    public void setUp() {
+        legacy = loggers(context(Level.DEBUG));
+        LoggerContext productionContext = context(Level.INFO);
+        SampledRequestTurboFilter filter = new SampledRequestTurboFilter();
+        filter.setLoggers("org.hibernate.SQL,uk.gov.hmcts.reform.dev");
+        filter.setContext(productionContext);
+        filter.start();
+        productionContext.addTurboFilter(filter);
+        production = loggers(productionContext);
+        request = TaskFixtures.request(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        legacy.controller().getLoggerContext().stop();
+        production.controller().getLoggerContext().stop();
+    }
+
+    @Benchmark
+    public void legacyCreate() {
+        legacy.controller().info("Creating task: {}, with title: {}", request, request.getTitle());
+        legacy.sql().debug(INSERT_SQL);
+        legacy.service().info("Task created successfully with id {}", TASK_ID);
+    }
+
+    @Benchmark
+    public void productionCreate() {
+        productionLogging();
+    }
+
+    @Benchmark
+    public void productionSampledCreate() {
+        MDC.put(RequestLogSampler.MDC_KEY, "true");
+        try {
+            productionLogging();
+        } finally {
+            MDC.remove(RequestLogSampler.MDC_KEY);
+        }
+    }
+
+    private void productionLogging() {
+        production.controller().debug("Creating task");
+        production.sql().debug(INSERT_SQL);
+        production.service().atInfo().addKeyValue("taskId", TASK_ID).log("Task created");
+    }
+
+    private static Loggers loggers(LoggerContext context) {
+        return new Loggers(
+            context.getLogger("uk.gov.hmcts.reform.dev.controller.TaskController"),
+            context.getLogger("org.hibernate.SQL"),
+            context.getLogger("uk.gov.hmcts.reform.dev.service.TaskServiceImplementation")
+        );
+    }
+
+    private LoggerContext context(Level level) {
+        LoggerContext context = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> root = output;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            root = async;
+        }
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.INFO);
+        rootLogger.addAppender(root);
+        context.getLogger("org.hibernate.SQL").setLevel(level);
+        context.getLogger("uk.gov.hmcts.reform").setLevel(level);
+        return context;
+    }
+
+    private record Loggers(Logger controller, Logger sql, Logger service) {
+    }
+}
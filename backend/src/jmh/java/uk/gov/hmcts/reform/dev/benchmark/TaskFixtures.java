@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+/**
+ * Representative task data for benchmarks. Titles and descriptions are sized like production
+ * rows so that serialization and validation costs are realistic.
+ */
+final class TaskFixtures {
+
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 6, 9, 30, 15, 123_456_000);
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private TaskFixtures() {
+    }
+
+    static Task task(long id) {
+        return Task.builder()
+            .id(id)
+            .title("Review case documents " + id)
+            .description("Review all submitted documents for case #" + (10_000 + id)
+                + " and ensure compliance with regulations")
+            .status(STATUSES[(int) (id % STATUSES.length)])
+            .dueDateTime(BASE_TIME.plusDays(id % 30))
+            .createdAt(BASE_TIME.plusSeconds(id))
+            .updatedAt(BASE_TIME.plusSeconds(id))
+            .version(0L)
+            .build();
+    }
+
+    static TaskRequest request(int index) {
+        return TaskRequest.builder()
+            .title("Review case documents " + index)
+            .description("Review all submitted documents for case #" + (10_000 + index)
+                + " and ensure compliance with regulations")
+            .status(TaskStatus.TODO)
+            .dueDateTime(BASE_TIME.plusDays(7))
+            .build();
+    }
+
+    static InMemoryTaskRepository seededRepository(int size, int capacity) {
+        InMemoryTaskRepository repository = new InMemoryTaskRepository(capacity);
+        IntStream.rangeClosed(1, size).forEach(id -> repository.seed(task(id)));
+        return repository;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+/**
+ * Jackson cost of the list endpoints. The mapper is configured like the one Spring Boot builds for
+ * the application (registered modules, ISO dates).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    @Param({"1", "50", "200", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TaskResponse> responses;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonMapper mapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        TypeReference<List<TaskResponse>> listType = new TypeReference<>() {
+        };
+        writer = mapper.writerFor(listType);
+        reader = mapper.readerFor(listType);
+        responses = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> TaskResponse.fromEntity(TaskFixtures.task(id)))
+            .toList();
+        json = writer.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return writer.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<TaskResponse> deserializeList() throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskExportFormat;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.service.TaskServiceImplementation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.IN_PROGRESS;
+
+/**
+ * Service layer cost without a database: {@link TaskServiceImplementation} is built directly over
+ * {@link InMemoryTaskRepository}, so Spring proxies (transactions, caching) and JDBC are excluded and
+ * any change here comes from mapping, paging, validation or export code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private static final int SEEDED_TASKS = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    private ValidatorFactory validatorFactory;
+    private TaskServiceImplementation taskService;
+    private TaskRequest createRequest;
+    private List<TaskRequest> bulkRequests;
+    private String secondPageToken;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        EntityManager entityManager = (EntityManager) Proxy.newProxyInstance(
+            EntityManager.class.getClassLoader(), new Class<?>[] {EntityManager.class}, (proxy, method, args) -> null
+        );
+        taskService = new TaskServiceImplementation(
+            TaskFixtures.seededRepository(SEEDED_TASKS, SEEDED_TASKS * 2).proxy(),
+            entityManager,
+            JsonMapper.builder().findAndAddModules().disable(WRITE_DATES_AS_TIMESTAMPS).build(),
+            validatorFactory.getValidator(),
+            new TransactionTemplate(),
+            event -> { },
+            ids -> { }
+        );
+        createRequest = TaskFixtures.request(1);
+        bulkRequests = IntStream.range(0, PAGE_SIZE).mapToObj(TaskFixtures::request).toList();
+        secondPageToken = taskService.getTasks(null, PAGE_SIZE).getNextPageToken();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public TaskResponse getTaskById() {
+        return taskService.getTaskById(ThreadLocalRandom.current().nextLong(1, SEEDED_TASKS + 1));
+    }
+
+    @Benchmark
+    public TaskPageResponse getFirstPage() {
+        return taskService.getTasks(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPageResponse getPageFromToken() {
+        return taskService.getTasks(secondPageToken, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskResponse createTask() {
+        return taskService.createTask(createRequest);
+    }
+
+    @Benchmark
+    public BulkCreateTaskResponse createTasksInBulk() {
+        return taskService.createTasks(bulkRequests);
+    }
+
+    @Benchmark
+    public TaskResponse updateTaskStatus() {
+        return taskService.updateTaskStatus((long) SEEDED_TASKS, IN_PROGRESS, null);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long exportNdjson() throws IOException {
+        return taskService.exportTasks(TaskExportFormat.NDJSON, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import java.util.Arrays;
+
+/**
+ * Task API operations the load harness can drive, keyed by the names used in {@code load.mix}.
+ */
+enum Endpoint {
+    CREATE("create"),
+    GET("get"),
+    UPDATE_STATUS("update-status"),
+    DELETE("delete");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+            .filter(endpoint -> endpoint.key.equals(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in load.mix: " + key));
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency recorder and error count for one endpoint. Values are recorded in microseconds;
+ * {@link Recorder} lets many client threads record without locking.
+ */
+final class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyMicros, boolean success) {
+        recorder.recordValue(Math.max(latencyMicros, 0));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Discards everything recorded so far, used to drop the warmup phase.
+     */
+    void reset() {
+        recorder.reset();
+        errors.reset();
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
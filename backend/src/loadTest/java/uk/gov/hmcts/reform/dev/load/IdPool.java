@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IDs of tasks known to exist, shared by all clients. Reads and updates pick a random ID; deletes
+ * take one out so it is not targeted again. Removal swaps with the last element to stay O(1).
+ */
+final class IdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+
+    synchronized void addAll(Collection<Long> newIds) {
+        ids.addAll(newIds);
+    }
+
+    synchronized void add(long id) {
+        ids.add(id);
+    }
+
+    synchronized Long pick() {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    synchronized Long take() {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.get(index);
+        ids.set(index, ids.getLast());
+        ids.removeLast();
+        return id;
+    }
+}
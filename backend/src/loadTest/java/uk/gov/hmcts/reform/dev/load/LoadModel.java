@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.load;
+
+/**
+ * How requests are issued. A closed model has each client wait for its response before sending the
+ * next request, so throughput falls as latency rises. An open model issues requests at a fixed
+ * arrival rate regardless of how the server is coping, and latency is measured from the intended
+ * send time so queueing delay is not hidden.
+ */
+enum LoadModel {
+    CLOSED,
+    OPEN
+}
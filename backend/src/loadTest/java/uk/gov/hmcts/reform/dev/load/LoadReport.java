@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Summary written to {@code report.json}: throughput, error rate and latency percentiles in
+ * milliseconds, overall and per endpoint.
+ */
+record LoadReport(
+    LoadModel model,
+    boolean virtualThreads,
+    int clients,
+    Integer ratePerSecond,
+    double durationSeconds,
+    long requests,
+    long errors,
+    double errorRate,
+    double throughputPerSecond,
+    Map<String, EndpointReport> endpoints
+) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    static LoadReport from(LoadTestSettings settings, LoadResult result) {
+        double seconds = result.elapsed().toNanos() / 1e9;
+        Map<String, EndpointReport> endpoints = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Endpoint, Histogram> entry : result.histograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            long endpointErrors = result.errors().get(entry.getKey());
+            endpoints.put(entry.getKey().key(), new EndpointReport(
+                count,
+                endpointErrors,
+                count / seconds,
+                millis(histogram.getMean()),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+            ));
+            requests += count;
+            errors += endpointErrors;
+        }
+        return new LoadReport(
+            settings.model(),
+            settings.virtualThreads(),
+            settings.clients(),
+            settings.model() == LoadModel.OPEN ? settings.ratePerSecond() : null,
+            seconds,
+            requests,
+            errors,
+            requests == 0 ? 0 : (double) errors / requests,
+            requests / seconds,
+            endpoints
+        );
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder(String.format(
+            "%-14s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"
+        ));
+        endpoints.forEach((name, endpoint) -> table.append(String.format(
+            "%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            name, endpoint.count(), endpoint.errors(), endpoint.throughputPerSecond(), endpoint.p50Millis(),
+            endpoint.p90Millis(), endpoint.p99Millis(), endpoint.p999Millis(), endpoint.maxMillis()
+        )));
+        table.append(String.format("%-14s %9d %7d %9.1f%n", "total", requests, errors, throughputPerSecond));
+        return table.toString();
+    }
+
+    private static double millis(double micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    record EndpointReport(
+        long count,
+        long errors,
+        double throughputPerSecond,
+        double meanMillis,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis
+    ) {
+    }
+}
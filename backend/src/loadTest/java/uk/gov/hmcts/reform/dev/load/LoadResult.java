@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Raw measurements from the measured phase: latency histograms in microseconds and error counts
+ * per endpoint.
+ */
+record LoadResult(Duration elapsed, Map<Endpoint, Histogram> histograms, Map<Endpoint, Long> errors) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    /**
+     * Writes each endpoint's full percentile distribution in HdrHistogram's {@code .hgrm} format,
+     * in milliseconds, for plotting or comparison between runs.
+     */
+    void writeHistograms(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path file = dir.resolve(entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+}
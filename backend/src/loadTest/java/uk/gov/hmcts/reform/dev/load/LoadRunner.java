@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the configured workload: a warmup phase whose results are discarded, then a measured phase.
+ */
+final class LoadRunner {
+
+    // Clients spend their time waiting on HTTP, so thousands of them stay cheap on virtual threads
+    private static final ThreadFactory CLIENT_THREADS = Thread.ofVirtual().name("load-client-", 0).factory();
+
+    private final LoadTestSettings settings;
+    private final TaskApiClient client;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    LoadRunner(LoadTestSettings settings, TaskApiClient client) {
+        this.settings = settings;
+        this.client = client;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+
+        endpoints = settings.mix().keySet().toArray(Endpoint[]::new);
+        cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += settings.mix().get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    LoadResult run() {
+        runPhase(settings.warmup());
+        stats.values().forEach(EndpointStats::reset);
+
+        long start = System.nanoTime();
+        runPhase(settings.duration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+        stats.forEach((endpoint, endpointStats) -> {
+            histograms.put(endpoint, endpointStats.histogram());
+            errors.put(endpoint, endpointStats.errors());
+        });
+        return new LoadResult(elapsed, histograms, errors);
+    }
+
+    private void runPhase(Duration length) {
+        long deadline = System.nanoTime() + length.toNanos();
+        switch (settings.model()) {
+            case CLOSED -> runClosed(deadline);
+            case OPEN -> runOpen(deadline);
+        }
+    }
+
+    private void runClosed(long deadline) {
+        try (ExecutorService clients = Executors.newFixedThreadPool(settings.clients(), CLIENT_THREADS)) {
+            for (int i = 0; i < settings.clients(); i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        issue(nextEndpoint(), System.nanoTime());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Schedules requests at a fixed rate and measures each from when it should have been sent, so a
+     * slow server shows up as growing latency rather than as fewer samples (coordinated omission).
+     */
+    private void runOpen(long deadline) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+        try (ExecutorService workers = Executors.newFixedThreadPool(settings.clients(), CLIENT_THREADS)) {
+            for (long intended = System.nanoTime(); intended < deadline; intended += interval) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long scheduledAt = intended;
+                workers.execute(() -> issue(nextEndpoint(), scheduledAt));
+            }
+        }
+    }
+
+    private void issue(Endpoint endpoint, long startNanos) {
+        Endpoint called = endpoint;
+        boolean success;
+        try {
+            TaskApiClient.Outcome outcome = client.execute(endpoint);
+            called = outcome.endpoint();
+            success = outcome.success();
+        } catch (IOException ex) {
+            success = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.get(called).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), success);
+    }
+
+    private Endpoint nextEndpoint() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Weighted endpoint selection out of range");
+    }
+}
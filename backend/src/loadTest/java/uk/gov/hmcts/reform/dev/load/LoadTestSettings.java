@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test configuration, read from {@code load.*} system properties. The Gradle {@code load} task
+ * forwards matching project properties, e.g. {@code ./gradlew load -Pload.clients=32}.
+ *
+ * @param clients        concurrent clients, or worker threads for the open model
+ * @param model          closed or open workload model
+ * @param virtualThreads run the server with {@code spring.threads.virtual.enabled}
+ * @param ratePerSecond  arrival rate for the open model
+ * @param warmup         time to run before measurements are recorded
+ * @param duration       measured run time
+ * @param seedTasks      tasks inserted before the run so reads and updates have targets
+ * @param mix            relative weight of each endpoint
+ * @param maxP99Millis   p99 latency any endpoint may reach before the run fails
+ * @param maxErrorRate   fraction of failed requests allowed across the run
+ * @param reportDir      where the report and histograms are written
+ */
+record LoadTestSettings(
+    int clients,
+    LoadModel model,
+    boolean virtualThreads,
+    int ratePerSecond,
+    Duration warmup,
+    Duration duration,
+    int seedTasks,
+    Map<Endpoint, Integer> mix,
+    double maxP99Millis,
+    double maxErrorRate,
+    Path reportDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+            Integer.getInteger("load.clients", 16),
+            LoadModel.valueOf(System.getProperty("load.model", "closed").toUpperCase(Locale.ROOT)),
+            Boolean.getBoolean("load.virtualThreads"),
+            Integer.getInteger("load.rate", 200),
+            Duration.parse(System.getProperty("load.warmup", "PT10S")),
+            Duration.parse(System.getProperty("load.duration", "PT30S")),
+            Integer.getInteger("load.seed", 1000),
+            parseMix(System.getProperty("load.mix", "create=20,get=60,update-status=15,delete=5")),
+            Double.parseDouble(System.getProperty("load.maxP99Millis", "500")),
+            Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01")),
+            Path.of(System.getProperty("load.reportDir", "build/reports/load"))
+        );
+        if (settings.clients < 1 || settings.ratePerSecond < 1) {
+            throw new IllegalArgumentException("load.clients and load.rate must be positive");
+        }
+        return settings;
+    }
+
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        Arrays.stream(mix.split(","))
+            .map(String::strip)
+            .filter(entry -> !entry.isEmpty())
+            .forEach(entry -> {
+                String[] parts = entry.split("=", 2);
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected endpoint=weight in load.mix but got: " + entry);
+                }
+                int weight = Integer.parseInt(parts[1].strip());
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Negative weight in load.mix: " + entry);
+                }
+                weights.put(Endpoint.fromKey(parts[0].strip()), weight);
+            });
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("load.mix must give at least one endpoint a positive weight");
+        }
+        return weights;
+    }
+}
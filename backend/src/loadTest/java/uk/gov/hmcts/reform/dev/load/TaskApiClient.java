@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Issues one request per call against the running Task API. Operations that need an existing task
+ * take it from the shared {@link IdPool}; when the pool is empty they create a task instead so the
+ * workload never stalls.
+ */
+final class TaskApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final IdPool ids;
+
+    TaskApiClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, IdPool ids) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.ids = ids;
+    }
+
+    /**
+     * Runs the operation and reports which endpoint was actually called and whether it succeeded.
+     * A 404 on an id-based call counts as success: another client may have deleted the task
+     * between it being picked and the request arriving.
+     */
+    Outcome execute(Endpoint endpoint) throws IOException, InterruptedException {
+        Long id = switch (endpoint) {
+            case CREATE -> null;
+            case GET, UPDATE_STATUS -> ids.pick();
+            case DELETE -> ids.take();
+        };
+        if (endpoint != Endpoint.CREATE && id == null) {
+            return execute(Endpoint.CREATE);
+        }
+
+        HttpResponse<String> response = switch (endpoint) {
+            case CREATE -> send(request("/create-task")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(createBody())));
+            case GET -> send(request("/" + id + "/get-task").GET());
+            case UPDATE_STATUS -> send(request("/" + id + "/status?status=" + randomStatus())
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+            case DELETE -> send(request("/" + id + "/delete-task").DELETE());
+        };
+
+        int status = response.statusCode();
+        if (endpoint == Endpoint.CREATE && status == 201) {
+            ids.add(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+        boolean success = status / 100 == 2 || (endpoint != Endpoint.CREATE && status == 404);
+        return new Outcome(endpoint, success);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String createBody() {
+        int n = ThreadLocalRandom.current().nextInt(1_000_000);
+        return """
+            {"title":"Load test task %d","description":"Review all submitted documents for case #%d",\
+            "status":"TODO","dueDateTime":"2030-01-01T09:00:00"}""".formatted(n, n);
+    }
+
+    private static String randomStatus() {
+        return STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+    }
+
+    record Outcome(Endpoint endpoint, boolean success) {
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+/**
+ * Boots the application against a Postgres container, seeds it, drives the configured workload
+ * over HTTP and fails if any endpoint's p99 latency or the overall error rate exceeds its threshold.
+ * Results are written to {@code build/reports/load}.
+ */
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@ActiveProfiles("load")
+@Testcontainers
+@Slf4j
+@DisplayName("Task API Load Test")
+@SuppressWarnings({"SpringJavaInjectionPointsAutowiringInspection", "resource"})
+class TaskApiLoadTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("loaddb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.threads.virtual.enabled", () -> Boolean.getBoolean("load.virtualThreads"));
+        // Measures queueing at saturation, so shedding is off unless a budget is passed in
+        registry.add("tasks.connection-pool.acquire-budget", () -> System.getProperty("load.acquireBudget", "0"));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("mixed workload should stay within latency and error thresholds")
+    void mixedWorkloadShouldStayWithinThresholds() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        IdPool ids = new IdPool();
+        ids.addAll(jdbcTemplate.queryForList("""
+            INSERT INTO tasks (id, title, description, status, due_date_time, created_at, updated_at)
+            SELECT nextval('tasks_id_seq'), 'Seed task ' || n, 'Seeded for load testing', 'TODO',
+                   now() + n * interval '1 minute', now(), now()
+            FROM generate_series(1, ?) AS n
+            RETURNING id
+            """, Long.class, settings.seedTasks()));
+
+        LoadResult result;
+        try (HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build()) {
+            String baseUrl = "http://localhost:" + port + "/api/tasks";
+            result = new LoadRunner(settings, new TaskApiClient(httpClient, objectMapper, baseUrl, ids)).run();
+        }
+
+        LoadReport report = LoadReport.from(settings, result);
+        Files.createDirectories(settings.reportDir());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(settings.reportDir().resolve("report.json").toFile(), report);
+        result.writeHistograms(settings.reportDir());
+        log.info("Load test {} with {} clients, virtual threads {}:\n{}",
+            settings.model(), settings.clients(), settings.virtualThreads(), report.toTable());
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(report.requests()).as("requests completed").isPositive();
+        softly.assertThat(report.errorRate()).as("error rate").isLessThanOrEqualTo(settings.maxErrorRate());
+        report.endpoints().forEach((name, endpoint) ->
+            softly.assertThat(endpoint.p99Millis()).as("%s p99 latency (ms)", name)
+                .isLessThanOrEqualTo(settings.maxP99Millis())
+        );
+        softly.assertAll();
+    }
+}
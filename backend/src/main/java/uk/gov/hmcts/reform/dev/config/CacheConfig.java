@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec}") String cacheSpecification) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new InvalidationGuardedCache(super.adaptCaffeineCache(name, cache));
+            }
+        };
+        caffeineCacheManager.setCacheSpecification(cacheSpecification);
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCacheNames(List.of(TASKS_CACHE));
+        // Defer evictions until the surrounding transaction commits, so they land after the write. A
+        // read that loaded the row before then would put it back, which InvalidationGuardedCache stops
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    @Bean
+    CacheMeterBinderProvider<InvalidationGuardedCache> invalidationGuardedCacheMeterBinderProvider() {
+        // Spring Boot only recognises a bare CaffeineCache, so publish the wrapped cache's statistics
+        CaffeineCacheMeterBinderProvider caffeine = new CaffeineCacheMeterBinderProvider();
+        return (cache, tags) -> cache.getDelegate() instanceof CaffeineCache delegate
+            ? caffeine.getMeterBinder(delegate, tags)
+            : null;
+    }
+}
@@ -0,0 +1,129 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache regions held in Caffeine caches, so they are bounded and monitored
+ * the same way as the service-level task cache.
+ *
+ * <p>Regions are fixed up front: an entity or query mapped to any other region fails at startup
+ * instead of quietly getting a cache nobody sized.
+ */
+final class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    private final Map<String, Cache<Object, Object>> regions;
+
+    CaffeineRegionFactory(Map<String, Cache<Object, Object>> regions) {
+        this.regions = Map.copyOf(regions);
+    }
+
+    Map<String, Cache<Object, Object>> regions() {
+        return regions;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(region(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(region(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(region(regionName));
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // The regions are built with the factory
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(Cache::invalidateAll);
+    }
+
+    // Soft locks taken by READ_WRITE entities are compared against these timestamps, so both are in
+    // milliseconds
+    @Override
+    public long nextTimestamp() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long getTimeout() {
+        return 60_000;
+    }
+
+    private Cache<Object, Object> region(String regionName) {
+        Cache<Object, Object> cache = regions.get(regionName);
+        if (cache == null) {
+            throw new CacheException("No second-level cache region is configured for " + regionName);
+        }
+        return cache;
+    }
+
+    private record CaffeineStorageAccess(Cache<Object, Object> cache) implements DomainDataStorageAccess {
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            if (value == null) {
+                cache.invalidate(key);
+            } else {
+                cache.put(key, value);
+            }
+        }
+
+        @Override
+        public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void clearCache(SharedSessionContractImplementor session) {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.pool.ConnectionPoolLoadSheddingFilter;
+import uk.gov.hmcts.reform.dev.pool.ConnectionPoolMonitor;
+
+import java.time.Duration;
+
+/**
+ * Watches the primary Hikari pool and sheds API requests while it is saturated. Pool sizing,
+ * timeouts, leak detection and the driver's statement cache are set under
+ * {@code spring.datasource.hikari} in {@code application.yaml}.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolMonitor connectionPoolMonitor(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${tasks.connection-pool.acquire-budget:250ms}") Duration acquireBudget) {
+        return new ConnectionPoolMonitor(meterRegistry::getObject, acquireBudget);
+    }
+
+    @Bean
+    static BeanPostProcessor connectionPoolMonitorTracker(ObjectProvider<ConnectionPoolMonitor> monitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Set before Spring Boot binds pool metrics, which it leaves alone once a tracker is set
+                if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(monitor.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolLoadSheddingFilter> connectionPoolLoadSheddingFilter(
+        ConnectionPoolMonitor monitor, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConnectionPoolLoadSheddingFilter> registration = new FilterRegistrationBean<>(
+            new ConnectionPoolLoadSheddingFilter(monitor, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
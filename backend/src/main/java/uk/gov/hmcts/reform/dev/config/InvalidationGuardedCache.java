@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Drops a put made by a read that raced a write. {@code @Cacheable} looks a task up, loads it on a
+ * miss and puts it once the reader's transaction commits, so a reader that loaded the row before a
+ * writer committed could put it back after the writer's eviction, and it would stay until it expired.
+ *
+ * <p>Each eviction stamps its key from a shared clock, and a clear stamps the whole cache. Each miss
+ * remembers the clock, and a put from the same thread for that key is dropped if the key or the
+ * cache has been stamped since, as the value may predate the change. Evicting one key leaves puts
+ * to every other key alone. Stamps are only kept for the most recently evicted keys; past that they
+ * are folded into one cache-wide stamp, which drops the puts in flight once rather than growing.
+ */
+class InvalidationGuardedCache implements Cache {
+
+    static final int MAX_TRACKED_EVICTIONS = 10_000;
+
+    private final Cache delegate;
+    private final int maxTrackedEvictions;
+    private final AtomicLong clock = new AtomicLong();
+    private final ConcurrentMap<Object, Long> evictedAt = new ConcurrentHashMap<>();
+    private volatile long clearedAt;
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    InvalidationGuardedCache(Cache delegate) {
+        this(delegate, MAX_TRACKED_EVICTIONS);
+    }
+
+    InvalidationGuardedCache(Cache delegate, int maxTrackedEvictions) {
+        this.delegate = delegate;
+        this.maxTrackedEvictions = maxTrackedEvictions;
+    }
+
+    Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long seen = clock.get();
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            lastMiss.set(new Miss(key, seen));
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Miss miss = lastMiss.get();
+        if (miss != null && miss.key().equals(key)) {
+            lastMiss.remove();
+            if (invalidatedSince(key, miss.seen())) {
+                return;
+            }
+        }
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        stamp(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        stamp(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        stampAll();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        stampAll();
+        return delegate.invalidate();
+    }
+
+    private boolean invalidatedSince(Object key, long seen) {
+        return clearedAt > seen || evictedAt.getOrDefault(key, 0L) > seen;
+    }
+
+    private void stamp(Object key) {
+        evictedAt.put(key, clock.incrementAndGet());
+        if (evictedAt.size() > maxTrackedEvictions) {
+            stampAll();
+        }
+    }
+
+    private void stampAll() {
+        // Stamped before the per-key stamps go, so no put slips through in between
+        clearedAt = clock.incrementAndGet();
+        evictedAt.clear();
+    }
+
+    private record Miss(Object key, long seen) {
+    }
+}
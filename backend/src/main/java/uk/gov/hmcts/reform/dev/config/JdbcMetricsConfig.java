@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import uk.gov.hmcts.reform.dev.metrics.JdbcRequestMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+/**
+ * Per-request JDBC metrics and slow statement logging; see {@link JdbcRequestMetrics}. The DataSource
+ * is wrapped in a datasource-proxy {@link ProxyDataSource} that passes every statement to each
+ * {@link QueryExecutionListener} bean. The proxy unwraps to the Hikari pool, so the pool's own
+ * metrics, including {@code hikaricp.connections.acquire} for time spent waiting on a connection, are
+ * unaffected.
+ */
+@Configuration
+public class JdbcMetricsConfig {
+
+    @Bean
+    public JdbcRequestMetrics jdbcRequestMetrics(
+        MeterRegistry registry,
+        @Value("${tasks.jdbc.slow-statement-threshold:500ms}") Duration slowStatementThreshold) {
+        return new JdbcRequestMetrics(registry, slowStatementThreshold);
+    }
+
+    @Bean
+    public MappedInterceptor jdbcRequestMetricsInterceptor(JdbcRequestMetrics jdbcRequestMetrics) {
+        return new MappedInterceptor(new String[] {"/api/**"}, jdbcRequestMetrics);
+    }
+
+    @Bean
+    static BeanPostProcessor jdbcListenerDataSourceProxy(ObjectProvider<QueryExecutionListener> listenerBeans) {
+        // Resolved on first use so wrapping the DataSource doesn't pull the meter registry forward
+        Supplier<List<QueryExecutionListener>> listeners =
+            SingletonSupplier.of(() -> listenerBeans.orderedStream().toList());
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                for (QueryExecutionListener each : listeners.get()) {
+                    each.beforeQuery(execInfo, queryInfoList);
+                }
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                for (QueryExecutionListener each : listeners.get()) {
+                    each.afterQuery(execInfo, queryInfoList);
+                }
+            }
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.outbox.FileOutboxSink;
+import uk.gov.hmcts.reform.dev.outbox.LoggingOutboxSink;
+import uk.gov.hmcts.reform.dev.outbox.OutboxRelay;
+import uk.gov.hmcts.reform.dev.outbox.OutboxSink;
+
+import java.nio.file.Path;
+
+/**
+ * Chooses where the {@link OutboxRelay} publishes task changes: {@code log} (the default) writes
+ * them to the application log and {@code file} appends them to {@code tasks.outbox.file}. A broker
+ * sink is added by implementing {@link OutboxSink} here.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(@Value("${tasks.outbox.sink:log}") String sink,
+                                 @Value("${tasks.outbox.file:outbox.ndjson}") String file,
+                                 ObjectMapper objectMapper) {
+        return switch (sink) {
+            case "log" -> new LoggingOutboxSink(objectMapper);
+            case "file" -> new FileOutboxSink(Path.of(file), objectMapper);
+            default -> throw new IllegalArgumentException("Unknown outbox sink: " + sink);
+        };
+    }
+}
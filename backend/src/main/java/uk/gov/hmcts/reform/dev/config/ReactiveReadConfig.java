@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.repository.TaskReactiveRepository;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+@Configuration
+public class ReactiveReadConfig {
+
+    // The pool is deliberately not a bean: Spring Boot drops the JDBC DataSource, and with it JPA
+    // and Flyway, as soon as any R2DBC ConnectionFactory bean exists
+    @Bean
+    public TaskReactiveRepository taskReactiveRepository(@Value("${spring.r2dbc.url}") String url,
+                                                         @Value("${spring.r2dbc.username}") String username,
+                                                         @Value("${spring.r2dbc.password}") String password,
+                                                         @Value("${spring.r2dbc.pool.max-size}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+            .option(USER, username)
+            .option(PASSWORD, password)
+            .build();
+        ConnectionPool connectionPool = new ConnectionPool(
+            ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("tasks-reactive")
+                .maxSize(maxSize)
+                .build()
+        );
+        return new TaskReactiveRepository(connectionPool);
+    }
+}
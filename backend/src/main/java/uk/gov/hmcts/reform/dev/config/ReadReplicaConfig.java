@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import uk.gov.hmcts.reform.dev.replica.ReadReplicaDataSource;
+import uk.gov.hmcts.reform.dev.replica.ReadReplicaProperties;
+import uk.gov.hmcts.reform.dev.replica.ReadYourWritesInterceptor;
+import uk.gov.hmcts.reform.dev.replica.ReplicaLagCacheInvalidator;
+import uk.gov.hmcts.reform.dev.replica.ReplicaRoutingDataSource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the read replicas listed in
+ * {@code tasks.read-replicas.urls}. Everything else, including Flyway, stays on the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${tasks.read-replicas.urls:}'.isBlank()")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    // Keeps a read from waiting long on a replica that went down since its last check
+    private static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+
+    @Bean
+    static BeanPostProcessor readReplicaDataSource(Environment environment,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        // Ordered so it runs before the unordered JDBC listener proxy in JdbcMetricsConfig, which
+        // then wraps this and times and traces replica statements too
+        class ReadReplicaPostProcessor implements BeanPostProcessor, Ordered {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource primary && !(bean instanceof ReadReplicaDataSource)) {
+                    ReadReplicaProperties properties = Binder.get(environment)
+                        .bindOrCreate("tasks.read-replicas", ReadReplicaProperties.class);
+                    MeterRegistry registry = meterRegistry.getObject();
+                    ReplicaRoutingDataSource replicas = new ReplicaRoutingDataSource(primary,
+                        replicaPools(primary, properties, registry), properties.maxLag(),
+                        properties.healthCheckInterval(), registry);
+                    return new ReadReplicaDataSource(primary, replicas);
+                }
+                return bean;
+            }
+
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+        }
+        return new ReadReplicaPostProcessor();
+    }
+
+    @Bean
+    public MappedInterceptor readYourWritesInterceptor(ReadReplicaProperties properties) {
+        return new MappedInterceptor(new String[] {"/api/**"},
+            new ReadYourWritesInterceptor(properties.readYourWritesWindow()));
+    }
+
+    @Bean
+    public ReplicaLagCacheInvalidator replicaLagCacheInvalidator(CacheManager cacheManager,
+                                                                 EntityManagerFactory entityManagerFactory,
+                                                                 ReadReplicaProperties properties) {
+        // A replica is only read while within maxLag, and may drift a check interval past it unnoticed
+        return new ReplicaLagCacheInvalidator(cacheManager, entityManagerFactory,
+            properties.maxLag().plus(properties.healthCheckInterval()));
+    }
+
+    private static Map<String, DataSource> replicaPools(DataSource primary, ReadReplicaProperties properties,
+                                                        MeterRegistry registry) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        List<String> urls = properties.urls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(properties.username());
+            config.setPassword(properties.password());
+            config.setMaximumPoolSize(properties.poolSize());
+            config.setReadOnly(true);
+            config.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+            // Start even when a replica is down; reads go to the primary until it comes up
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            if (primary instanceof HikariDataSource hikari) {
+                // Same statement cache and batching as the primary
+                config.setDataSourceProperties(hikari.getDataSourceProperties());
+                config.setLeakDetectionThreshold(hikari.getLeakDetectionThreshold());
+            }
+            pools.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        return pools;
+    }
+}
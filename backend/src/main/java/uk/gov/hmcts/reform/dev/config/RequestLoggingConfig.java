@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.hmcts.reform.dev.logging.RequestLogSampler;
+import uk.gov.hmcts.reform.dev.logging.RequestLogSamplingProperties;
+
+/**
+ * Samples API requests for logging. Rates are set per endpoint under {@code tasks.request-logging};
+ * the appenders and the filter that acts on the sampling decision are in {@code logback-spring.xml}.
+ */
+@Configuration
+@EnableConfigurationProperties(RequestLogSamplingProperties.class)
+@RequiredArgsConstructor
+public class RequestLoggingConfig implements WebMvcConfigurer {
+
+    private final RequestLogSamplingProperties properties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestLogSampler(properties)).addPathPatterns("/api/**");
+    }
+}
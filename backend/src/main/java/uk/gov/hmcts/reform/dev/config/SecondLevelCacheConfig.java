@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache for {@link Task} entities and the cacheable list queries in
+ * {@code TaskRepository}, kept in bounded Caffeine regions in this JVM. Set
+ * {@code SECOND_LEVEL_CACHE_ENABLED=false} to turn it off.
+ *
+ * <p>Each region is published as Caffeine cache metrics ({@code cache.gets}, {@code cache.evictions}
+ * and so on) tagged {@code cache.manager=hibernate}.
+ *
+ * <p>Writes made through Hibernate, including JPQL bulk updates and native deletes, invalidate the
+ * affected regions themselves. Native statements run as queries ({@code UPDATE ... RETURNING}) are
+ * invisible to Hibernate, so callers evict through {@code TaskCacheEvictor}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String UPDATE_TIMESTAMPS_REGION =
+        RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean
+    CaffeineRegionFactory secondLevelCacheRegionFactory(
+        @Value("${tasks.second-level-cache.max-entries:10000}") long maxEntries,
+        @Value("${tasks.second-level-cache.query-max-entries:1000}") long queryMaxEntries,
+        @Value("${tasks.second-level-cache.time-to-live:10m}") Duration timeToLive) {
+        return new CaffeineRegionFactory(Map.of(
+            Task.CACHE_REGION, region(maxEntries, timeToLive),
+            QUERY_RESULTS_REGION, region(queryMaxEntries, timeToLive),
+            // Timestamps decide whether a cached query result is still current, so they are never
+            // evicted; there is one entry per table
+            UPDATE_TIMESTAMPS_REGION, Caffeine.newBuilder().recordStats().build()
+        ));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CaffeineRegionFactory regionFactory) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+            // Cached query results keep whole rows, so a hit never turns into one select per task
+            // after the entity region has evicted some of them
+            properties.put("hibernate.cache.query_cache_layout", "FULL");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CaffeineRegionFactory regionFactory) {
+        return registry -> regionFactory.regions().forEach((name, cache) ->
+            CaffeineCacheMetrics.monitor(registry, cache, name, "cache.manager", "hibernate"));
+    }
+
+    private static Cache<Object, Object> region(long maxEntries, Duration timeToLive) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.tracing.JdbcStatementTracing;
+
+/**
+ * Tracing is Spring Boot's Micrometer Tracing over OpenTelemetry: W3C trace context is read from
+ * incoming requests, so a trace started by the frontend continues here, and spans are exported over
+ * OTLP to {@code OTLP_TRACING_ENDPOINT}. Boot traces each request and the {@code @Observed}
+ * {@code TaskService} methods; this adds a span per JDBC statement.
+ *
+ * <p>{@code TRACING_SAMPLE_RATE} sets the share of new traces recorded. Requests arriving with a
+ * trace context follow the caller's decision, so a trace is recorded end to end or not at all.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public JdbcStatementTracing jdbcStatementTracing(ObjectProvider<Tracer> tracer) {
+        // Without a tracer, as when tracing is switched off, no statement has a current span
+        return new JdbcStatementTracing(tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+}
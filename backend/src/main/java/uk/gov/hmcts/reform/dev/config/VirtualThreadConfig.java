@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Support for {@code spring.threads.virtual.enabled}. Spring Boot already moves Tomcat request
+ * handling, {@code @Async}, scheduled tasks and async MVC (streamed exports) onto virtual threads
+ * when the property is set; this adds the metrics needed to run that mode safely.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block pins its carrier thread, and
+ * with enough pinned carriers every request stalls. HikariCP and pgjdbc 42.6+ guard their blocking
+ * paths with {@code ReentrantLock}, which does not pin; {@code TaskVirtualThreadPinningIT} keeps
+ * that true as they are upgraded. Any pinning that remains shows up in production as the
+ * {@code jvm.threads.virtual.pinned} timer, recorded from JFR {@code jdk.VirtualThreadPinned} events.
+ *
+ * <p>Virtual threads remove Tomcat's thread cap, so the Hikari pool becomes the limit on concurrent
+ * database work. Size it with {@code DB_POOL_SIZE} rather than raising Tomcat threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}
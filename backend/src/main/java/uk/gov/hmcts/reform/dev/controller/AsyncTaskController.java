@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.dev.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import uk.gov.hmcts.reform.dev.dto.AsyncTaskStatus;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.replica.PrimaryReads;
+import uk.gov.hmcts.reform.dev.service.AsyncTaskIngestor;
+import uk.gov.hmcts.reform.dev.service.PendingTask;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.net.URI;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Asynchronous task creation, enabled with {@code tasks.async-create.enabled}. Tasks are
+ * acknowledged once journaled and written to the database in the background; see
+ * {@link AsyncTaskIngestor}.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "http://localhost:3000")
+@ConditionalOnProperty(prefix = "tasks.async-create", name = "enabled", havingValue = "true")
+public class AsyncTaskController {
+
+    private final AsyncTaskIngestor asyncTaskIngestor;
+    private final TaskService taskService;
+
+    @Operation(
+        summary = "Create a task asynchronously",
+        description = "Validates the task and accepts it for creation without waiting for the database. The"
+            + " response carries the task's ID, and the Location header points at its creation status."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Task accepted for creation",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = AsyncTaskStatus.class)
+                )
+            ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request data",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many tasks are waiting to be created; retry after the Retry-After delay",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ProblemDetail.class)
+                )
+            )
+    })
+    @PostMapping(
+        value = "/create-task-async",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<AsyncTaskStatus> createTaskAsync(
+        @Parameter(description = "Task details", required = true)
+        @Valid @RequestBody TaskRequest taskRequest) {
+        log.debug("Accepting task for asynchronous creation");
+        PendingTask task = asyncTaskIngestor.accept(taskRequest);
+        URI status = ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/api/tasks/{id}/create-status")
+            .buildAndExpand(task.id())
+            .toUri();
+        return ResponseEntity.accepted().location(status).body(AsyncTaskStatus.pending(task.id()));
+    }
+
+    @Operation(
+        summary = "Get asynchronous creation status",
+        description = "Reports whether a task accepted for asynchronous creation is still pending, has been"
+            + " created, or was rejected by the database. Pending tasks are reported by the instance that"
+            + " accepted them; other instances return 404 until the task is created."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Status found",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = AsyncTaskStatus.class)
+                )
+            ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No such task",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ProblemDetail.class)
+                )
+            )
+    })
+    @GetMapping(value = "/{id}/create-status", produces = APPLICATION_JSON_VALUE)
+    public AsyncTaskStatus getCreateStatus(
+        @Parameter(description = "Task ID", example = "1", required = true)
+        @PathVariable Long id) {
+        AsyncTaskStatus status = asyncTaskIngestor.status(id);
+        if (status != null) {
+            return status;
+        }
+        // The writer has only just committed the task, which a lagging replica may not have yet
+        return AsyncTaskStatus.created(PrimaryReads.during(() -> taskService.getTaskById(id)));
+    }
+}
@@ -9,28 +9,50 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResponse;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskExportFormat;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskPurgeResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.TaskChangeFeed;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -40,6 +62,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeFeed taskChangeFeed;
 
     @Operation(
         summary = "Create a new task",
@@ -76,14 +99,55 @@ public class TaskController {
     public ResponseEntity<TaskResponse> createTask(
         @Parameter(description = "Task details", required = true)
         @Valid @RequestBody TaskRequest taskRequest) {
-        log.info("Creating task: {}, with title: {}", taskRequest, taskRequest.getTitle());
+        log.debug("Creating task");
         TaskResponse taskResponse = taskService.createTask(taskRequest);
         return ResponseEntity.status(CREATED).body(taskResponse);
     }
 
+    @Operation(
+        summary = "Create tasks in bulk",
+        description = "Validates and creates up to 1000 tasks in a single transaction using batched inserts."
+            + " Invalid tasks are rejected individually and reported alongside the created tasks."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Bulk request processed, see per-task outcomes",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = BulkCreateTaskResponse.class)
+                )
+            ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty or oversized request",
+            content = @Content(
+                mediaType = APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error"
+            )
+    })
+    @PostMapping(
+        value = "/bulk-create-tasks",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BulkCreateTaskResponse> createTasks(
+        @Parameter(description = "Tasks to create", required = true)
+        @RequestBody List<TaskRequest> taskRequests) {
+        log.debug("Bulk creating {} tasks", taskRequests.size());
+        BulkCreateTaskResponse response = taskService.createTasks(taskRequests);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "Get task by ID",
-        description = "Retrieves a specific task by its unique identifier"
+        description = "Retrieves a specific task by its unique identifier. The response carries an ETag; send it"
+            + " back in If-None-Match to receive 304 Not Modified, without a body, while the task is unchanged."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -94,6 +158,10 @@ public class TaskController {
                     schema = @Schema(implementation = TaskResponse.class)
                 )
             ),
+        @ApiResponse(
+                responseCode = "304",
+                description = "Task unchanged since the ETag in If-None-Match"
+            ),
         @ApiResponse(
                 responseCode = "404",
                 description = "Task not found"
@@ -110,14 +178,18 @@ public class TaskController {
     public ResponseEntity<TaskResponse> getTaskById(
         @Parameter(description = "Task ID", example = "1", required = true)
         @PathVariable Long id) {
-        log.info("Retrieving task with id: {}", id);
+        log.debug("Retrieving task with id: {}", id);
         TaskResponse response = taskService.getTaskById(id);
-        return ResponseEntity.ok(response);
+        // A matching If-None-Match is answered with 304 before the body is serialized
+        return ResponseEntity.ok().eTag(TaskETags.of(response)).body(response);
     }
 
     @Operation(
         summary = "Get all tasks",
-        description = "Retrieves all tasks ordered by creation date (newest first)"
+        description = "Retrieves all tasks ordered by creation date (oldest first). Superseded by get-tasks,"
+            + " which pages through the same ordering without loading every task. The response carries an ETag;"
+            + " send it back in If-None-Match to receive 304 Not Modified while no task has changed.",
+        deprecated = true
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -128,6 +200,10 @@ public class TaskController {
                     schema = @Schema(implementation = TaskResponse.class)
                 )
             ),
+        @ApiResponse(
+                responseCode = "304",
+                description = "No task changed since the ETag in If-None-Match"
+            ),
         @ApiResponse(
                 responseCode = "500",
                 description = "Internal server error"
@@ -135,14 +211,241 @@ public class TaskController {
     })
     @GetMapping(value = "/get-all-tasks", produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        log.info("Retrieving all tasks");
+        log.debug("Retrieving all tasks");
         List<TaskResponse> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(TaskETags.of(tasks)).body(tasks);
+    }
+
+    @Operation(
+        summary = "Get a page of tasks",
+        description = "Retrieves tasks ordered by creation date and ID (oldest first) using keyset pagination."
+            + " Pass the returned pageToken, or follow the next link, to retrieve the following page."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Page retrieved successfully",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskPageResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid page token or page size",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+    })
+    @GetMapping(value = "/get-tasks", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPageResponse> getTasks(
+        @Parameter(description = "Continuation token returned with the previous page")
+        @RequestParam(required = false) String pageToken,
+        @Parameter(description = "Maximum number of tasks to return (1-200)", example = "50")
+        @RequestParam(defaultValue = "50") int size) {
+        log.debug("Retrieving page of {} tasks", size);
+        TaskPageResponse page = taskService.getTasks(pageToken, size);
+        return ResponseEntity.ok(withNextLink(page));
+    }
+
+    @Operation(
+        summary = "Query tasks",
+        description = "Retrieves tasks matching the given status, due date, created and updated filters, sorted by"
+            + " the chosen field with ties broken by ID. Results are keyset paginated like get-tasks."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Page retrieved successfully",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskPageResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid filter, sort, page token or page size",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+    })
+    @GetMapping(value = "/query-tasks", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPageResponse> queryTasks(@ParameterObject @ModelAttribute TaskQueryRequest query) {
+        log.debug("Querying tasks: {}", query);
+        TaskPageResponse page = taskService.queryTasks(query);
+        return ResponseEntity.ok(withNextLink(page));
+    }
+
+    @Operation(
+        summary = "Search tasks",
+        description = "Full-text search over task titles and descriptions. Accepts web search syntax (quoted"
+            + " phrases, OR, -exclusions) and also matches substrings of either field. Results are ordered by"
+            + " relevance with ties broken by ID and are keyset paginated like get-tasks."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Search results retrieved successfully",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskPageResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Missing or invalid query, page token or page size",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+    })
+    @GetMapping(value = "/search-tasks", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPageResponse> searchTasks(
+        @Parameter(description = "Search terms (3-200 characters)", example = "case file")
+        @RequestParam String q,
+        @Parameter(description = "Continuation token returned with the previous page")
+        @RequestParam(required = false) String pageToken,
+        @Parameter(description = "Maximum number of tasks to return (1-200)", example = "50")
+        @RequestParam(defaultValue = "50") int size) {
+        log.debug("Searching page of {} tasks", size);
+        TaskPageResponse page = taskService.searchTasks(q, pageToken, size);
+        return ResponseEntity.ok(withNextLink(page));
+    }
+
+    @Operation(
+        summary = "Get task changes",
+        description = "Delta sync: returns tasks created or modified since a change version, in their current"
+            + " state, and the IDs of tasks deleted since then. Start with since=0, read every page, then send"
+            + " the returned version as since on the next sync. Changes still being committed are held back"
+            + " until a later sync, so none are skipped. Deletes are kept for a retention window; a client whose"
+            + " version is older gets reset=true and every task, and should replace its copy."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Changes retrieved successfully",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskChangesResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid version, page token or page size",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+    })
+    @GetMapping(value = "/get-task-changes", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(
+        @Parameter(description = "Version returned by the previous sync, or 0 for everything", example = "0")
+        @RequestParam(defaultValue = "0") long since,
+        @Parameter(description = "Continuation token returned with the previous page")
+        @RequestParam(required = false) String pageToken,
+        @Parameter(description = "Maximum number of changes to return (1-200)", example = "50")
+        @RequestParam(defaultValue = "50") int size) {
+        log.debug("Retrieving page of {} task changes since version {}", size, since);
+        TaskChangesResponse changes = taskService.getTaskChanges(since, pageToken, size);
+        if (changes.getNextPageToken() != null) {
+            changes.setNext(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("pageToken", changes.getNextPageToken())
+                .toUriString());
+        }
+        return ResponseEntity.ok(changes);
+    }
+
+    @Operation(
+        summary = "Export all tasks",
+        description = "Streams every task ordered by creation date and ID, one row at a time, as newline"
+            + " delimited JSON (default) or CSV. The response starts immediately and uses constant memory."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Export streamed successfully",
+                content = {
+                    @Content(mediaType = APPLICATION_NDJSON_VALUE),
+                    @Content(mediaType = "text/csv")
+                }
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid export format",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            )
+    })
+    @GetMapping("/export-tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+        @Parameter(description = "Export format", schema = @Schema(allowableValues = {"NDJSON", "CSV"}))
+        @RequestParam(defaultValue = "NDJSON") TaskExportFormat format) {
+        log.debug("Exporting all tasks as {}", format);
+        StreamingResponseBody body = outputStream -> taskService.exportTasks(format, outputStream);
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + format.getFileExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+
+    @Operation(
+        summary = "Stream task changes",
+        description = "Server-sent event stream of task creates, updates, status changes and deletes, sent once"
+            + " each change has committed. Reconnecting clients send the last event ID they saw (Last-Event-ID"
+            + " header or lastEventId parameter) to receive only what they missed; a RESET event means those"
+            + " events are gone and the client should reload. Clients that fall too far behind are disconnected."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Change stream opened",
+                content = @Content(
+                    mediaType = TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = TaskChangeEvent.class)
+                )
+            )
+    })
+    @GetMapping(value = "/changes", produces = TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+        @Parameter(description = "ID of the last event received, sent automatically by EventSource on reconnect")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+        @Parameter(description = "ID of the last event received, for clients that cannot set headers")
+        @RequestParam(required = false) String lastEventId) {
+        log.debug("Opening task change stream");
+        return taskChangeFeed.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
     }
 
     @Operation(
         summary = "Update task status",
-        description = "Updates only the status of an existing task"
+        description = "Updates only the status of an existing task. Send the task's ETag as If-Match to "
+            + "apply the change only if nobody has modified the task since it was read."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -165,6 +468,14 @@ public class TaskController {
                 responseCode = "404",
                 description = "Task not found"
             ),
+        @ApiResponse(
+                responseCode = "412",
+                description = "Task has changed since the If-Match version was read",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
         @ApiResponse(
                 responseCode = "500",
                 description = "Internal server error",
@@ -183,15 +494,58 @@ public class TaskController {
         @PathVariable Long id,
         @Parameter(description = "New task status", required = true, schema =
             @Schema(allowableValues = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"}))
-        @RequestParam TaskStatus status) {
-        log.info("Updating task {} status to: {}", id, status);
-        TaskResponse response = taskService.updateTaskStatus(id, status);
+        @RequestParam TaskStatus status,
+        @Parameter(description = "ETag of the task version this change is based on", example = "\"3\"")
+        @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        log.debug("Updating task {} status to: {}", id, status);
+        TaskResponse response = taskService.updateTaskStatus(id, status, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(response)).body(response);
+    }
+
+    @Operation(
+        summary = "Update task statuses in bulk",
+        description = "Moves every task selected by ID, or by current status and due date, to a new status"
+            + " in a single statement. Requested IDs that do not exist are reported back."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Task statuses updated successfully",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = BulkStatusUpdateResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Invalid status or selection",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+    })
+    @PatchMapping(
+        value = "/bulk-update-status",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<BulkStatusUpdateResponse> updateTaskStatuses(
+        @Parameter(description = "Selection and new status", required = true)
+        @Valid @RequestBody BulkStatusUpdateRequest request) {
+        log.debug("Bulk updating task statuses to: {}", request.getStatus());
+        BulkStatusUpdateResponse response = taskService.updateTaskStatuses(request);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
         summary = "Update task",
-        description = "Updates all fields of an existing task"
+        description = "Updates all fields of an existing task. Send the task's ETag as If-Match to apply "
+            + "the change only if nobody has modified the task since it was read."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -214,6 +568,14 @@ public class TaskController {
                 responseCode = "404",
                 description = "Task not found"
             ),
+        @ApiResponse(
+                responseCode = "412",
+                description = "Task has changed since the If-Match version was read",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
         @ApiResponse(
                 responseCode = "500",
                 description = "Internal server error"
@@ -228,10 +590,12 @@ public class TaskController {
         @Parameter(description = "Task ID", example = "1", required = true)
         @PathVariable Long id,
         @Parameter(description = "Updated task details", required = true)
-        @Valid @RequestBody TaskRequest request) {
-        log.info("Updating task with id: {}", id);
-        TaskResponse response = taskService.updateTask(id, request);
-        return ResponseEntity.ok(response);
+        @Valid @RequestBody TaskRequest request,
+        @Parameter(description = "ETag of the task version this change is based on", example = "\"3\"")
+        @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        log.debug("Updating task with id: {}", id);
+        TaskResponse response = taskService.updateTask(id, request, TaskETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(response)).body(response);
     }
 
     @Operation(
@@ -256,8 +620,54 @@ public class TaskController {
     public ResponseEntity<Void> deleteTask(
         @Parameter(description = "Task ID", example = "1", required = true)
         @PathVariable Long id) {
-        log.info("Deleting task with id: {}", id);
+        log.debug("Deleting task with id: {}", id);
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+        summary = "Purge closed tasks",
+        description = "Permanently deletes COMPLETED and CANCELLED tasks last updated before the given time."
+            + " Rows are deleted in small chunks, each in its own transaction, so locks are held briefly."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Closed tasks purged successfully",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskPurgeResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Missing or invalid cutoff",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "Internal server error"
+            )
+    })
+    @DeleteMapping(value = "/purge-closed-tasks", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskPurgeResponse> purgeClosedTasks(
+        @Parameter(description = "Delete closed tasks last updated before this time", example = "2024-01-01T00:00:00",
+            required = true)
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime olderThan) {
+        log.debug("Purging closed tasks last updated before: {}", olderThan);
+        long deleted = taskService.purgeClosedTasks(olderThan);
+        return ResponseEntity.ok(TaskPurgeResponse.builder().deleted(deleted).build());
+    }
+
+    private static TaskPageResponse withNextLink(TaskPageResponse page) {
+        if (page.getNextPageToken() != null) {
+            page.setNext(ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("pageToken", page.getNextPageToken())
+                .toUriString());
+        }
+        return page;
+    }
 }
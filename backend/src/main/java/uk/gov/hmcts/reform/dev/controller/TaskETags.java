@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.controller;
+
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.TaskVersionConflictException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Strong entity tags for task responses, computed from what identifies a task's state rather than
+ * by hashing the serialized body, so a matching If-None-Match can be answered before serializing.
+ *
+ * <p>A task's tag is its version, so the tag a client last read can be sent back as If-Match to
+ * make an update conditional on nobody having changed the task since.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(TaskResponse task) {
+        return "\"" + version(task) + "\"";
+    }
+
+    static String of(List<TaskResponse> tasks) {
+        MessageDigest digest = sha256();
+        for (TaskResponse task : tasks) {
+            digest.update((task.getId() + "-" + version(task) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Returns the task version an If-Match header requires, or {@code null} when the update is
+     * unconditional. If-Match uses strong comparison, so a weak or foreign tag can never match.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ex) {
+                // Falls through to the conflict below
+            }
+        }
+        throw new TaskVersionConflictException("If-Match " + tag + " does not match the current task version");
+    }
+
+    private static long version(TaskResponse task) {
+        return Objects.requireNonNullElse(task.getVersion(), 0L);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is required on every Java platform", ex);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.service.ReactiveTaskService;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+/**
+ * Non-blocking variants of the task read endpoints, served from R2DBC. The request thread is
+ * released as soon as the query is issued and each task is written as it arrives, so many slow
+ * clients do not hold servlet threads or buffer whole result sets.
+ */
+@RestController
+@RequestMapping("/api/tasks/stream")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "http://localhost:3000")
+public class TaskStreamController {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    @Operation(
+        summary = "Get task by ID without blocking",
+        description = "Retrieves a specific task by its ID over the non-blocking read path"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Task found",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TaskResponse.class)
+                )
+            ),
+        @ApiResponse(
+                responseCode = "404",
+                description = "Task not found",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            )
+    })
+    @GetMapping(value = "/{id}/get-task", produces = APPLICATION_JSON_VALUE)
+    public Mono<TaskResponse> getTaskById(
+        @Parameter(description = "Task ID", example = "1", required = true)
+        @PathVariable Long id) {
+        log.debug("Streaming task with id: {}", id);
+        return reactiveTaskService.getTaskById(id);
+    }
+
+    @Operation(
+        summary = "Stream all tasks",
+        description = "Streams every task ordered by creation date and ID as newline delimited JSON or"
+            + " server-sent events. Rows are read from the database as the client consumes them."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Tasks streamed successfully",
+        content = {
+            @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TaskResponse.class)),
+            @Content(mediaType = TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TaskResponse.class))
+        }
+    )
+    @GetMapping(value = "/get-all-tasks", produces = {APPLICATION_NDJSON_VALUE, TEXT_EVENT_STREAM_VALUE})
+    public Flux<TaskResponse> streamAllTasks() {
+        log.debug("Streaming all tasks");
+        return reactiveTaskService.streamAllTasks();
+    }
+
+    @Operation(
+        summary = "Stream search results",
+        description = "Full-text search over task titles and descriptions, as search-tasks, streaming up to"
+            + " the requested number of results in relevance order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "Search results streamed successfully",
+                content = {
+                    @Content(
+                        mediaType = APPLICATION_NDJSON_VALUE,
+                        schema = @Schema(implementation = TaskResponse.class)
+                    ),
+                    @Content(
+                        mediaType = TEXT_EVENT_STREAM_VALUE,
+                        schema = @Schema(implementation = TaskResponse.class)
+                    )
+                }
+            ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Missing or invalid query or limit",
+                content = @Content(
+                    mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)
+                )
+            )
+    })
+    @GetMapping(value = "/search-tasks", produces = {APPLICATION_NDJSON_VALUE, TEXT_EVENT_STREAM_VALUE})
+    public Flux<TaskResponse> searchTasks(
+        @Parameter(description = "Search terms (3-200 characters)", example = "case file")
+        @RequestParam String q,
+        @Parameter(description = "Maximum number of tasks to stream (1-1000)", example = "50")
+        @RequestParam(defaultValue = "50") int limit) {
+        log.debug("Streaming up to {} search results", limit);
+        return reactiveTaskService.searchTasks(q, limit);
+    }
+}
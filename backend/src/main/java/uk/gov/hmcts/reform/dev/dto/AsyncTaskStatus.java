@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a task accepted for asynchronous creation")
+public class AsyncTaskStatus {
+    @Schema(description = "ID given to the task when it was accepted", example = "1")
+    private Long id;
+
+    @Schema(description = "Whether the task has been written", example = "PENDING")
+    private State state;
+
+    @Schema(description = "The task, once created", nullable = true)
+    private TaskResponse task;
+
+    @Schema(description = "Why the task could not be created", nullable = true)
+    private String error;
+
+    public static AsyncTaskStatus pending(Long id) {
+        return AsyncTaskStatus.builder().id(id).state(State.PENDING).build();
+    }
+
+    public static AsyncTaskStatus created(TaskResponse task) {
+        return AsyncTaskStatus.builder().id(task.getId()).state(State.CREATED).task(task).build();
+    }
+
+    public static AsyncTaskStatus failed(Long id, String error) {
+        return AsyncTaskStatus.builder().id(id).state(State.FAILED).error(error).build();
+    }
+
+    @Schema(description = "PENDING until the task is written, then CREATED, or FAILED if the database rejected it")
+    public enum State {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response object summarising a bulk create request")
+public class BulkCreateTaskResponse {
+    @Schema(description = "Number of tasks created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of tasks rejected by validation", example = "2")
+    private int rejected;
+
+    @Schema(description = "Per-task outcomes in request order")
+    private List<BulkCreateTaskResult> results;
+}
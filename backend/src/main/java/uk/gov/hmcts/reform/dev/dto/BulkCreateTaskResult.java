@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single task within a bulk create request")
+public class BulkCreateTaskResult {
+    @Schema(description = "Position of the task in the request array", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the task was created or rejected", example = "CREATED")
+    private Outcome outcome;
+
+    @Schema(description = "The created task, present when the outcome is CREATED", nullable = true)
+    private TaskResponse task;
+
+    @Schema(description = "Validation errors by field, present when the outcome is REJECTED", nullable = true)
+    private Map<String, String> errors;
+
+    public static BulkCreateTaskResult created(int index, TaskResponse task) {
+        return BulkCreateTaskResult.builder()
+            .index(index)
+            .outcome(Outcome.CREATED)
+            .task(task)
+            .build();
+    }
+
+    public static BulkCreateTaskResult rejected(int index, Map<String, String> errors) {
+        return BulkCreateTaskResult.builder()
+            .index(index)
+            .outcome(Outcome.REJECTED)
+            .errors(errors)
+            .build();
+    }
+
+    @Schema(description = "Possible outcomes for a task in a bulk create request")
+    public enum Outcome {
+        CREATED,
+        REJECTED
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects tasks either by ID or by filter and moves them to a new status")
+public class BulkStatusUpdateRequest {
+    @NotNull(message = "Task status must be one of TODO, IN_PROGRESS, COMPLETED, OR CANCELLED")
+    @Schema(
+        description = "Status to move the selected tasks to",
+        example = "COMPLETED",
+        allowableValues = {"TODO", "IN_PROGRESS", "COMPLETED", "CANCELLED"}
+    )
+    private TaskStatus status;
+
+    @Schema(
+        description = "IDs of the tasks to update, cannot be combined with a filter",
+        example = "[1, 2, 3]",
+        nullable = true
+    )
+    private List<Long> ids;
+
+    @Schema(
+        description = "Only update tasks currently in this status",
+        example = "IN_PROGRESS",
+        nullable = true
+    )
+    private TaskStatus currentStatus;
+
+    @Schema(
+        description = "Only update tasks due before this date and time",
+        example = "2024-12-31T17:00:00Z",
+        nullable = true
+    )
+    private LocalDateTime dueBefore;
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response object summarising a bulk status update")
+public class BulkStatusUpdateResponse {
+    @Schema(description = "Number of tasks updated", example = "3")
+    private int updated;
+
+    @Schema(description = "Requested IDs that did not match a task, always empty for filter updates")
+    private List<Long> missingIds;
+}
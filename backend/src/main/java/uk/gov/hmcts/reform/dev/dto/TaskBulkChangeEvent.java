@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import java.util.List;
+
+/**
+ * The per-task changes made by one bulk operation. The outbox records each of them, while change
+ * feed subscribers get a single {@link TaskChangeEvent.ChangeType#BULK_CHANGED} event instead.
+ */
+public record TaskBulkChangeEvent(List<TaskChangeEvent> changes) {
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Position within one delta sync: changes below {@code horizon} that come after
+ * ({@code version}, {@code id}). The horizon is fixed on the first page so every page of a sync
+ * reads the same range of versions.
+ */
+public record TaskChangeCursor(long horizon, long version, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskChangeCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(Pattern.quote(SEPARATOR), -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected three parts");
+            }
+            return new TaskChangeCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page token: " + token, ex);
+        }
+    }
+
+    public String encode() {
+        String raw = horizon + SEPARATOR + version + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
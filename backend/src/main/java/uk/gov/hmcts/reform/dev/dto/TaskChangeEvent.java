@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A change to a task, delivered on the task change feed")
+public class TaskChangeEvent {
+    @Schema(description = "What changed", example = "STATUS_CHANGED")
+    private ChangeType type;
+
+    @Schema(description = "ID of the changed task, absent for bulk changes and resets", example = "1", nullable = true)
+    private Long taskId;
+
+    @Schema(description = "The task after the change, absent for deletes, bulk changes and resets", nullable = true)
+    private TaskResponse task;
+
+    @Schema(description = "When the change was made", example = "2024-12-31T17:00:00")
+    private LocalDateTime occurredAt;
+
+    public static TaskChangeEvent of(ChangeType type, TaskResponse task) {
+        return new TaskChangeEvent(type, task.getId(), task, LocalDateTime.now());
+    }
+
+    public static TaskChangeEvent of(ChangeType type, Long taskId) {
+        return new TaskChangeEvent(type, taskId, null, LocalDateTime.now());
+    }
+
+    public static TaskChangeEvent of(ChangeType type) {
+        return new TaskChangeEvent(type, null, null, LocalDateTime.now());
+    }
+
+    @Schema(description = "Kinds of task change. BULK_CHANGED means many tasks changed at once and RESET means missed"
+        + " events are no longer available; in both cases reload the tasks being displayed")
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED,
+        BULK_CHANGED,
+        RESET
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tasks created, modified or deleted since a change version")
+public class TaskChangesResponse {
+    @Schema(description = "Tasks created or modified since the requested version, in their current state")
+    private List<TaskResponse> tasks;
+
+    @Schema(description = "IDs of tasks deleted since the requested version")
+    private List<Long> deletedIds;
+
+    @Schema(
+        description = "Version to send as since on the next sync, once every page of this one has been read",
+        example = "4294967871"
+    )
+    private Long version;
+
+    @Schema(
+        description = "True on the first page when deletes since the requested version are no longer kept. The sync"
+            + " then starts over from version 0, so replace the local copy with the tasks returned rather than merging",
+        example = "false"
+    )
+    private boolean reset;
+
+    @Schema(
+        description = "Opaque token to request the following page, absent on the last page",
+        example = "NDI5NDk2Nzg3MXw0Mjk0OTY3ODAwfDQy",
+        nullable = true
+    )
+    private String nextPageToken;
+
+    @Schema(
+        description = "Link to the following page, absent on the last page",
+        example = "http://localhost:8080/api/tasks/get-task-changes?pageToken=NDI5NDk2Nzg3MXw0Mjk0OTY3ODAwfDQy",
+        nullable = true
+    )
+    private String next;
+}
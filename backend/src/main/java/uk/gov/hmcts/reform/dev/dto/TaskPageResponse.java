@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A single page of tasks ordered by creation date and ID")
+public class TaskPageResponse {
+    @Schema(description = "Tasks on this page")
+    private List<TaskResponse> tasks;
+
+    @Schema(
+        description = "Opaque token to request the following page, absent on the last page",
+        example = "MjAyNC0xMi0zMVQxNzowMDo0NS4xMjM0NTZ8NDI",
+        nullable = true
+    )
+    private String nextPageToken;
+
+    @Schema(
+        description = "Link to the following page, absent on the last page",
+        example = "http://localhost:8080/api/tasks/get-tasks?size=50&pageToken=MjAyNC0xMi0zMVQxNzowMDo0NS4xMjM0NTZ8NDI",
+        nullable = true
+    )
+    private String next;
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response object summarising a purge of closed tasks")
+public class TaskPurgeResponse {
+    @Schema(description = "Number of tasks deleted", example = "1500")
+    private long deleted;
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+@Data
+@Schema(description = "Filters, sort order and page position for a task query")
+public class TaskQueryRequest {
+    @Schema(description = "Only return tasks in one of these statuses", example = "TODO,IN_PROGRESS")
+    private List<TaskStatus> status;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @Schema(description = "Only return tasks due at or after this time", example = "2024-12-01T00:00:00")
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @Schema(description = "Only return tasks due before this time", example = "2024-12-31T00:00:00")
+    private LocalDateTime dueTo;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @Schema(description = "Only return tasks created at or after this time", example = "2024-12-01T00:00:00")
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @Schema(description = "Only return tasks created before this time", example = "2024-12-31T00:00:00")
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @Schema(description = "Only return tasks updated at or after this time", example = "2024-12-01T00:00:00")
+    private LocalDateTime updatedFrom;
+
+    @DateTimeFormat(iso = DATE_TIME)
+    @Schema(description = "Only return tasks updated before this time", example = "2024-12-31T00:00:00")
+    private LocalDateTime updatedTo;
+
+    @Schema(description = "Only return open (TODO or IN_PROGRESS) tasks whose due date has passed", example = "true")
+    private boolean overdue;
+
+    @Schema(
+        description = "Field to sort by. Sorting by DUE_DATE_TIME only returns tasks that have a due date",
+        example = "DUE_DATE_TIME"
+    )
+    private TaskSortKey sort = TaskSortKey.CREATED_AT;
+
+    @Schema(description = "Sort direction", example = "ASC")
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    @Schema(description = "Continuation token returned with the previous page", nullable = true)
+    private String pageToken;
+
+    @Schema(description = "Maximum number of tasks to return (1-200)", example = "50")
+    private int size = 50;
+}
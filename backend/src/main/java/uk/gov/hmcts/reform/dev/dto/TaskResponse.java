@@ -60,6 +60,12 @@ public class TaskResponse {
     )
     private LocalDateTime updatedAt;
 
+    @Schema(
+        description = "Version of the task, incremented on every change and returned as the ETag",
+        example = "3"
+    )
+    private Long version;
+
     public static TaskResponse fromEntity(Task task) {
         return TaskResponse.builder()
             .id(task.getId())
@@ -69,6 +75,7 @@ public class TaskResponse {
             .dueDateTime(task.getDueDateTime())
             .createdAt(task.getCreatedAt())
             .updatedAt(task.getUpdatedAt())
+            .version(task.getVersion())
             .build();
     }
 }
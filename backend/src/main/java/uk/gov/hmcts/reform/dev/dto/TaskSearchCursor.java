@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record TaskSearchCursor(float rank, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskSearchCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new TaskSearchCursor(
+                Float.parseFloat(decoded.substring(0, Math.max(separator, 0))),
+                Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page token: " + token, ex);
+        }
+    }
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
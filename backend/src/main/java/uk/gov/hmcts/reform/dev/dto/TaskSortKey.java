@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+@Schema(description = "Fields a task query can be sorted by, ties are broken by task ID")
+public enum TaskSortKey {
+    CREATED_AT("createdAt", Task::getCreatedAt),
+    UPDATED_AT("updatedAt", Task::getUpdatedAt),
+    DUE_DATE_TIME("dueDateTime", Task::getDueDateTime);
+
+    private final String property;
+    private final Function<Task, LocalDateTime> accessor;
+
+    public TaskCursor cursorOf(Task task) {
+        return new TaskCursor(accessor.apply(task), task.getId());
+    }
+}
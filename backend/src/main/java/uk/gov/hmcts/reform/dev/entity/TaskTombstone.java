@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.dev.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records a deleted task so delta sync clients learn about the delete. Rows are written by the
+ * delete statements in {@code TaskRepository}; the database stamps the change version. They are
+ * removed by {@code TaskTombstonePruner} once past the retention window.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    public static final String CHANGE_VERSION = "CAST(CAST(pg_current_xact_id() AS text) AS bigint)";
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @ColumnDefault(CHANGE_VERSION)
+    @Column(name = "change_version", nullable = false, insertable = false, updatable = false)
+    private Long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+public class TaskQueueFullException extends RuntimeException {
+    public TaskQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks the requests whose logs are written. A sampled request is marked in the MDC for its
+ * duration, which {@link SampledRequestTurboFilter} uses to let its debug and SQL logs through, and
+ * gets a single structured request line when it completes. Unsampled requests log nothing here.
+ *
+ * <p>The decision is made once per request, so the async dispatch of a stream or export keeps it.
+ */
+@Slf4j
+public class RequestLogSampler implements AsyncHandlerInterceptor {
+
+    public static final String MDC_KEY = "sampled";
+
+    private static final String SAMPLED_ATTRIBUTE = RequestLogSampler.class.getName() + ".sampled";
+    private static final String START_ATTRIBUTE = RequestLogSampler.class.getName() + ".start";
+
+    private final RequestLogSamplingProperties properties;
+
+    public RequestLogSampler(RequestLogSamplingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object sampled = request.getAttribute(SAMPLED_ATTRIBUTE);
+        if (sampled == null) {
+            sampled = sample(properties.rateFor(endpoint(request)));
+            request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        if (Boolean.TRUE.equals(sampled)) {
+            MDC.put(MDC_KEY, "true");
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        MDC.remove(MDC_KEY);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SAMPLED_ATTRIBUTE))) {
+            return;
+        }
+        try {
+            long elapsed = System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE);
+            log.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("endpoint", endpoint(request))
+                .addKeyValue("status", response.getStatus())
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed))
+                .log("Request completed");
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        return (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    }
+
+    private static boolean sample(double rate) {
+        if (rate <= 0) {
+            return false;
+        }
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Share of requests, between 0 and 1, whose request line, debug logs and SQL are written.
+ *
+ * @param sampleRate rate for endpoints without their own entry
+ * @param endpoints rates keyed by handler path pattern, e.g. {@code /api/tasks/{id}/get-task}
+ */
+@ConfigurationProperties(prefix = "tasks.request-logging")
+public record RequestLogSamplingProperties(double sampleRate, Map<String, Double> endpoints) {
+
+    public RequestLogSamplingProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    public double rateFor(String endpoint) {
+        return endpoint == null ? sampleRate : endpoints.getOrDefault(endpoint, sampleRate);
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lets DEBUG events from the configured loggers through for requests {@link RequestLogSampler} has
+ * sampled, whatever the logger's level. Everything else is left to the normal level check, so the
+ * loggers can stay at INFO and the per-statement SQL log costs nothing outside sampled requests.
+ *
+ * <p>Turbo filters run before every logging call, including {@code isDebugEnabled()}, so this returns
+ * early for any level other than DEBUG.
+ */
+public class SampledRequestTurboFilter extends TurboFilter {
+
+    private List<String> loggers = List.of();
+
+    /**
+     * Comma separated logger names; each also covers the loggers below it.
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .toList();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (level != Level.DEBUG || MDC.get(RequestLogSampler.MDC_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)
+                && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.')) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.hmcts.reform.dev.logging.RequestIdFilter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the JDBC statements each API request runs and the time spent in them, recorded per endpoint
+ * as {@code tasks.request.jdbc.statements} and {@code tasks.request.jdbc.time}. Set against
+ * {@code http.server.requests} for the same endpoint this splits request latency into database time
+ * and everything else.
+ *
+ * <p>Any statement slower than the threshold is logged with the request id and SQL, and counted as
+ * {@code tasks.jdbc.slow.statements}, whether or not it ran for a request.
+ *
+ * <p>Statements are charged to the request whose handler is running on the same thread. Work handed
+ * to another thread, such as the rows written by a streamed export, is not charged to any request.
+ */
+@Slf4j
+public class JdbcRequestMetrics implements QueryExecutionListener, AsyncHandlerInterceptor {
+
+    static final String STATEMENTS = "tasks.request.jdbc.statements";
+    static final String TIME = "tasks.request.jdbc.time";
+    static final String SLOW_STATEMENTS = "tasks.jdbc.slow.statements";
+
+    private static final String START = "startNanos";
+    private static final String STATS_ATTRIBUTE = JdbcRequestMetrics.class.getName() + ".stats";
+
+    private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final Counter slowStatements;
+
+    public JdbcRequestMetrics(MeterRegistry registry, Duration slowThreshold) {
+        this.registry = registry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowStatements = Counter.builder(SLOW_STATEMENTS)
+            .description("JDBC statements slower than tasks.jdbc.slow-statement-threshold")
+            .register(registry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = System.nanoTime() - execInfo.getCustomValue(START, Long.class);
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsed;
+        }
+        if (elapsed >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.atWarn()
+                .addKeyValue("requestId", MDC.get(RequestIdFilter.MDC_KEY))
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed))
+                .addKeyValue("sql", queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")))
+                .log("Slow JDBC statement");
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestStats stats = (RequestStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            stats = new RequestStats();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        }
+        current.set(stats);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        current.remove();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        current.remove();
+        RequestStats stats = (RequestStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            return;
+        }
+        Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("endpoint", endpoint == null ? "UNKNOWN" : endpoint.toString(),
+            "method", request.getMethod());
+        DistributionSummary.builder(STATEMENTS)
+            .description("JDBC statements run by a request")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(stats.statements);
+        Timer.builder(TIME)
+            .description("Time a request spent executing JDBC statements")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(stats.nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class RequestStats {
+        private int statements;
+        private long nanos;
+    }
+}
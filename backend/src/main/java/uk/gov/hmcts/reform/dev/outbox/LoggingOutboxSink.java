@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes each message to the application log. The default sink, for running without a broker.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoggingOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        for (OutboxMessage message : messages) {
+            log.atInfo()
+                .addKeyValue("outboxId", message.id())
+                .addKeyValue("taskId", message.taskId())
+                .log("Task change published: {}", objectMapper.writeValueAsString(message));
+        }
+    }
+}
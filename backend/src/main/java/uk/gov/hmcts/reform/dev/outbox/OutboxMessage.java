@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import uk.gov.hmcts.reform.dev.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task change as handed to an {@link OutboxSink}. The ID is unique and increases for successive
+ * changes to a task, so consumers can use it to discard redeliveries.
+ */
+public record OutboxMessage(long id, String eventType, Long taskId, @JsonRawValue String payload,
+                            LocalDateTime createdAt) {
+
+    public static OutboxMessage fromEntity(OutboxEvent event) {
+        return new OutboxMessage(
+            event.getId(), event.getEventType(), event.getTaskId(), event.getPayload(), event.getCreatedAt()
+        );
+    }
+}
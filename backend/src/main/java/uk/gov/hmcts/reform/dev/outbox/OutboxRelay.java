@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.repository.OutboxEventRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox events to the {@link OutboxSink} in the background, oldest first.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, published, and deleted in one
+ * transaction, so every replica can run a relay and each takes a different batch. If publishing or
+ * the commit fails the batch is unlocked and retried on the next poll, so delivery is at least once.
+ * Batches taken by different replicas may be published out of order; consumers can order changes
+ * to a task by message ID.
+ *
+ * <p>A message the sink keeps rejecting holds back those behind it; {@code tasks.outbox.failures}
+ * and {@code tasks.outbox.oldest.age} show when that happens.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    static final String PUBLISHED = "tasks.outbox.published";
+    static final String FAILURES = "tasks.outbox.failures";
+    static final String LAG = "tasks.outbox.lag";
+    static final String OLDEST_AGE = "tasks.outbox.oldest.age";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private final ScheduledExecutorService poller;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink sink,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${tasks.outbox.batch-size:100}") int batchSize,
+                       @Value("${tasks.outbox.poll-interval:1s}") Duration pollInterval) {
+        this(outboxEventRepository, sink, transactionTemplate, meterRegistry, batchSize);
+        poller.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(), pollInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.published = Counter.builder(PUBLISHED)
+            .description("Task change events published from the outbox")
+            .register(meterRegistry);
+        this.failures = Counter.builder(FAILURES)
+            .description("Outbox batches that failed to publish and will be retried")
+            .register(meterRegistry);
+        this.lag = Timer.builder(LAG)
+            .description("Time from a task change being written to its event being published")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder(OLDEST_AGE, oldestAgeMillis, millis -> millis.get() / 1000.0)
+            .description("Age of the oldest unpublished event when the outbox was last polled")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Publishes batches until the outbox is empty or a batch fails.
+     */
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Outbox relay failed, retrying on next poll", ex);
+        }
+    }
+
+    /**
+     * Publishes and deletes the next unlocked batch, returning how many events it held.
+     */
+    int relayBatch() {
+        List<OutboxMessage> relayed = transactionTemplate.execute(status -> {
+            List<OutboxMessage> batch = outboxEventRepository.lockNextBatch(batchSize)
+                .stream()
+                .map(OutboxMessage::fromEntity)
+                .toList();
+            oldestAgeMillis.set(batch.isEmpty() ? 0 : ageOf(batch.getFirst(), LocalDateTime.now()).toMillis());
+            if (batch.isEmpty()) {
+                return batch;
+            }
+            try {
+                sink.publish(batch);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxMessage::id).toList());
+            return batch;
+        });
+        if (relayed == null || relayed.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        published.increment(relayed.size());
+        relayed.forEach(message -> lag.record(ageOf(message, now)));
+        return relayed.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    private static Duration ageOf(OutboxMessage message, LocalDateTime now) {
+        return Duration.between(message.createdAt(), now);
+    }
+}
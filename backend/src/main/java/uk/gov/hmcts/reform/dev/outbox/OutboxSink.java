@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where the {@link OutboxRelay} publishes task changes. Messages are removed from the outbox only
+ * after {@link #publish} returns, so a sink sees a message again if the relay fails before then
+ * and must tolerate duplicates.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes the messages in order, throwing if any of them could not be published.
+     */
+    void publish(List<OutboxMessage> messages) throws IOException;
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dto.TaskBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.entity.OutboxEvent;
+import uk.gov.hmcts.reform.dev.repository.OutboxEventRepository;
+
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records every task change in the outbox. Unlike the change feed this listens synchronously, so
+ * the row is written in the transaction that made the change and commits or rolls back with it.
+ *
+ * <p>Bulk operations are recorded one row per task from their {@link TaskBulkChangeEvent}; the
+ * {@link ChangeType#BULK_CHANGED} event that accompanies it is only for the change feed. Hibernate
+ * cannot batch identity inserts, so those rows go in with a single {@code INSERT ... SELECT} over
+ * arrays instead of one insert per task. Identity keeps the IDs in commit order per task across
+ * replicas, which a pooled sequence handing out blocks to each replica would not.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskOutboxWriter {
+
+    static final String INSERT_ALL = """
+        INSERT INTO outbox_events (event_type, task_id, payload, created_at)
+        SELECT event.event_type, event.task_id, event.payload, ?
+        FROM unnest(?::varchar[], ?::bigint[], ?::text[]) WITH ORDINALITY
+            AS event(event_type, task_id, payload, position)
+        ORDER BY event.position
+        """;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (event.getType() != ChangeType.BULK_CHANGED) {
+            outboxEventRepository.save(toOutboxEvent(event));
+        }
+    }
+
+    @EventListener
+    public void onBulkTaskChange(TaskBulkChangeEvent event) {
+        List<OutboxEvent> rows = event.changes().stream().map(this::toOutboxEvent).toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_ALL, statement -> {
+            Connection connection = statement.getConnection();
+            statement.setObject(1, LocalDateTime.now(), Types.TIMESTAMP);
+            statement.setArray(2, connection.createArrayOf("varchar",
+                rows.stream().map(OutboxEvent::getEventType).toArray()));
+            statement.setArray(3, connection.createArrayOf("bigint",
+                rows.stream().map(OutboxEvent::getTaskId).toArray()));
+            statement.setArray(4, connection.createArrayOf("text",
+                rows.stream().map(OutboxEvent::getPayload).toArray()));
+        });
+    }
+
+    private OutboxEvent toOutboxEvent(TaskChangeEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return OutboxEvent.builder()
+            .eventType(event.getType().name())
+            .taskId(event.getTaskId())
+            .payload(payload)
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.dev.pool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Answers {@code 503 Service Unavailable} straight away while the connection pool is saturated,
+ * rather than letting the request take a thread and join the queue for a connection it would wait
+ * longer than the budget for.
+ */
+public class ConnectionPoolLoadSheddingFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ConnectionPoolMonitor monitor;
+    private final ObjectMapper objectMapper;
+    private final Counter shed;
+
+    public ConnectionPoolLoadSheddingFilter(ConnectionPoolMonitor monitor, ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry) {
+        this.monitor = monitor;
+        this.objectMapper = objectMapper;
+        this.shed = Counter.builder("tasks.db.pool.shed")
+            .description("API requests refused with 503 because the connection pool was saturated")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (!monitor.isSaturated()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        shed.increment();
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "The database is busy; retry shortly"
+        );
+        problemDetail.setTitle("Service Unavailable");
+        problemDetail.setProperty("timestamp", Instant.now());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
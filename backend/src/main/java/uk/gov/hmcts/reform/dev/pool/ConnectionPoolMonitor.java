@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the Hikari pool's {@code hikaricp.*} metrics, as Spring Boot would, and keeps a moving
+ * average of how long requests have recently waited for a connection.
+ *
+ * <p>The pool counts as saturated while that average is over the acquire budget and requests are
+ * still queued for a connection. Once the queue drains, new requests are let through again and their
+ * quicker acquisitions bring the average back down.
+ */
+public class ConnectionPoolMonitor implements MetricsTrackerFactory {
+
+    // Weight of the newest acquisition, so the average follows roughly the last ten
+    private static final double SMOOTHING = 0.2;
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final long acquireBudgetNanos;
+    private final AtomicLong recentAcquireNanos = new AtomicLong();
+    private volatile PoolStats poolStats;
+
+    public ConnectionPoolMonitor(Supplier<MeterRegistry> meterRegistry, Duration acquireBudget) {
+        this.meterRegistry = meterRegistry;
+        this.acquireBudgetNanos = acquireBudget.toNanos();
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        MeterRegistry registry = meterRegistry.get();
+        Gauge.builder("tasks.db.pool.acquire.recent", recentAcquireNanos, nanos -> nanos.get() / 1e9)
+            .description("Moving average of recent waits for a database connection")
+            .baseUnit("seconds")
+            .tag("pool", poolName)
+            .register(registry);
+        Gauge.builder("tasks.db.pool.saturated", this, monitor -> monitor.isSaturated() ? 1 : 0)
+            .description("Whether API requests are being refused until the connection queue drains")
+            .tag("pool", poolName)
+            .register(registry);
+        IMetricsTracker micrometer = new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                micrometer.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                micrometer.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+                recordAcquire(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                micrometer.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                micrometer.recordConnectionTimeout();
+            }
+
+            @Override
+            public void close() {
+                micrometer.close();
+            }
+        };
+    }
+
+    /**
+     * Whether new work should be refused rather than queued for a connection. Always false with a
+     * zero budget or before the pool has started.
+     */
+    public boolean isSaturated() {
+        PoolStats stats = poolStats;
+        return acquireBudgetNanos > 0
+            && stats != null
+            && stats.getPendingThreads() > 0
+            && recentAcquireNanos.get() > acquireBudgetNanos;
+    }
+
+    void recordAcquire(long nanos) {
+        recentAcquireNanos.accumulateAndGet(nanos,
+            (average, sample) -> average + (long) ((sample - average) * SMOOTHING));
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread's read-only transactions as needing the primary, because its client has
+ * just written and a replica may not have applied the change yet.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static void require() {
+        REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        REQUIRED.remove();
+    }
+
+    public static boolean isRequired() {
+        return REQUIRED.get() != null;
+    }
+
+    /**
+     * Runs {@code reads} against the primary, leaving the thread as it was afterwards.
+     */
+    public static <T> T during(Supplier<T> reads) {
+        boolean required = isRequired();
+        require();
+        try {
+            return reads.get();
+        } finally {
+            if (!required) {
+                clear();
+            }
+        }
+    }
+}
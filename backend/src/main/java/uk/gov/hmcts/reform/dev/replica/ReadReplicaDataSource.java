@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import javax.sql.DataSource;
+
+/**
+ * Sends each transaction to the primary or, when it is read-only, to {@link ReplicaRoutingDataSource}.
+ *
+ * <p>The JPA transaction manager marks a connection read-only after taking it, so the real
+ * connection is only fetched once the first statement runs and the read-only flag is known.
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final ReplicaRoutingDataSource replicas;
+
+    public ReadReplicaDataSource(DataSource primary, ReplicaRoutingDataSource replicas) {
+        super(primary);
+        setReadOnlyDataSource(replicas);
+        this.replicas = replicas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        replicas.close();
+        if (obtainTargetDataSource() instanceof Closeable primary) {
+            primary.close();
+        }
+    }
+}
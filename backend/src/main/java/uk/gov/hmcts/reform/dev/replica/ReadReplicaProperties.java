@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas that serve {@code @Transactional(readOnly = true)} work.
+ *
+ * @param urls JDBC URLs of the replicas; reads stay on the primary when there are none
+ * @param username user for every replica
+ * @param password password for every replica
+ * @param poolSize connections held per replica
+ * @param maxLag how far a replica may fall behind the primary and still serve reads
+ * @param healthCheckInterval pause between checks of each replica's reachability and lag
+ * @param readYourWritesWindow how long a client's reads stay on the primary after it writes
+ */
+@ConfigurationProperties(prefix = "tasks.read-replicas")
+public record ReadReplicaProperties(List<String> urls, String username, String password, int poolSize,
+                                    Duration maxLag, Duration healthCheckInterval,
+                                    Duration readYourWritesWindow) {
+
+    public ReadReplicaProperties {
+        urls = urls == null ? List.of() : urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+    }
+}
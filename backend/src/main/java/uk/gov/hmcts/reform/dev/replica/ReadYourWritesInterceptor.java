@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary for a while after it writes, so it sees its own change even
+ * when the replicas have not applied it yet. Every transaction in a write request uses the primary.
+ *
+ * <p>Clients are told apart by the {@value #CLIENT_ID_HEADER} header, or by address without one.
+ * The frontend sends an id per browser session, since every request it relays shares its address.
+ * Recent writers are held in this instance only.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWritesInterceptor(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(MAX_TRACKED_CLIENTS)
+            .ticker(ticker)
+            .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String client = clientOf(request);
+        if (!READ_METHODS.contains(request.getMethod())) {
+            // Recorded up front too, so reads racing the write already go to the primary
+            recentWriters.put(client, Boolean.TRUE);
+            PrimaryReads.require();
+        } else if (recentWriters.getIfPresent(client) != null) {
+            PrimaryReads.require();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        PrimaryReads.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!READ_METHODS.contains(request.getMethod())) {
+            // The window runs from when the write committed, not from when it started
+            recentWriters.put(clientOf(request), Boolean.TRUE);
+        }
+        PrimaryReads.clear();
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId == null || clientId.isBlank() ? request.getRemoteAddr() : clientId;
+    }
+}
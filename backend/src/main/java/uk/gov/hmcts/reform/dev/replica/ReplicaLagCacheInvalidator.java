@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.dev.config.CacheConfig.TASKS_CACHE;
+
+/**
+ * Evicts a changed task from the caches again once the replicas have had time to apply the change.
+ * A read served by a replica that was still behind can otherwise put the old row back in a cache,
+ * where it would stay until it expires rather than until the replica catches up.
+ */
+@Slf4j
+public class ReplicaLagCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Duration delay;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagCacheInvalidator(CacheManager cacheManager, EntityManagerFactory entityManagerFactory,
+                                      Duration delay) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.delay = delay;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-replica-cache-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        scheduler.schedule(() -> evict(event.getTaskId()), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void evict(Long taskId) {
+        try {
+            org.springframework.cache.Cache tasks = cacheManager.getCache(TASKS_CACHE);
+            org.hibernate.Cache secondLevel = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            if (taskId == null) {
+                if (tasks != null) {
+                    tasks.clear();
+                }
+                secondLevel.evictEntityData(Task.class);
+            } else {
+                if (tasks != null) {
+                    tasks.evict(taskId);
+                }
+                secondLevel.evictEntityData(Task.class, taskId);
+            }
+            secondLevel.evictDefaultQueryRegion();
+        } catch (RuntimeException ex) {
+            log.warn("Could not evict task {} after replica lag: {}", taskId, ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
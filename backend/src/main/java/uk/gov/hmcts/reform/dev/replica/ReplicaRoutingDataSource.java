@@ -0,0 +1,172 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections for read-only transactions, round robin across the replicas that are
+ * reachable and no further behind the primary than {@code maxLag}, and from the primary when none
+ * are or when {@link PrimaryReads} asks for it.
+ *
+ * <p>Each replica is checked on a fixed delay. A replica that cannot be reached, or that falls too
+ * far behind, is skipped until a later check finds it healthy again. A replica that fails to hand
+ * out a connection is taken out straight away and the next one is tried.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    /**
+     * Seconds since the replica last replayed a transaction, or zero when it has replayed all the
+     * WAL it has received, so an idle primary doesn't make its replicas look behind.
+     */
+    static final String LAG_QUERY = """
+        SELECT CASE
+                 WHEN NOT pg_is_in_recovery() THEN 0
+                 WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+               END
+        """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+    private final ScheduledExecutorService healthChecks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    Duration healthCheckInterval, MeterRegistry meterRegistry) {
+        this(primary, replicas, maxLag, meterRegistry);
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, meterRegistry)));
+        this.pinnedReads = primaryReads(meterRegistry, "pinned");
+        this.fallbackReads = primaryReads(meterRegistry, "unavailable");
+        this.healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryReads.isRequired()) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.usable) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException ex) {
+                    replica.update(Double.NaN, ex);
+                }
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    void checkReplicas() {
+        replicas.forEach(Replica::check);
+    }
+
+    @Override
+    public void close() throws IOException {
+        healthChecks.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter primaryReads(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tasks.read-replicas.primary-reads")
+            .description("Read-only transactions sent to the primary instead of a replica")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean usable;
+
+        Replica(String name, DataSource dataSource, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            Gauge.builder("tasks.read-replicas.lag", this, replica -> replica.lagSeconds)
+                .description("How far the replica is behind the primary, absent while it is unreachable")
+                .baseUnit("seconds")
+                .tag("replica", name)
+                .register(meterRegistry);
+            Gauge.builder("tasks.read-replicas.usable", this, replica -> replica.usable ? 1 : 0)
+                .description("Whether read-only transactions are being sent to the replica")
+                .tag("replica", name)
+                .register(meterRegistry);
+        }
+
+        void check() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet lag = statement.executeQuery(LAG_QUERY)) {
+                lag.next();
+                update(lag.getDouble(1), null);
+            } catch (SQLException ex) {
+                update(Double.NaN, ex);
+            }
+        }
+
+        void update(double lagSeconds, SQLException failure) {
+            boolean wasUsable = usable;
+            this.lagSeconds = lagSeconds;
+            // NaN compares false, so an unreachable replica is never usable
+            usable = lagSeconds <= maxLagSeconds;
+            if (wasUsable && failure != null) {
+                log.warn("Read replica {} is unreachable, skipping it: {}", name, failure.getMessage());
+            } else if (wasUsable && !usable) {
+                log.warn("Read replica {} is {}s behind the primary, skipping it", name, lagSeconds);
+            } else if (!wasUsable && usable) {
+                log.info("Read replica {} is in use", name);
+            }
+        }
+    }
+}
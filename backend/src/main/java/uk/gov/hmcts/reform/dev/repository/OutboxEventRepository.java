@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.entity.OutboxEvent;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest events no other relay holds, until the calling transaction ends. Rows
+     * locked elsewhere are skipped rather than waited on, so relays on several replicas each
+     * take a different batch.
+     */
+    @Query(
+        value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
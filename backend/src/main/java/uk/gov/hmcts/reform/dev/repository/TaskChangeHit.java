@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+public interface TaskChangeHit {
+    Long getId();
+
+    Long getVersion();
+
+    Boolean getDeleted();
+}
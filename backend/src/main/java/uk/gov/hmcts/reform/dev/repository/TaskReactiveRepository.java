@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking reads of the {@code tasks} table over R2DBC. Writes stay on {@link TaskRepository}
+ * and JPA; this only serves the streaming read endpoints. Rows are fetched from a server-side
+ * cursor in batches of {@link #FETCH_SIZE}, so a slow subscriber holds back the query rather than
+ * buffering the table in memory.
+ */
+public class TaskReactiveRepository implements DisposableBean {
+
+    static final int FETCH_SIZE = 100;
+
+    private static final String COLUMNS =
+        "t.id, t.title, t.description, t.status, t.due_date_time, t.created_at, t.updated_at, t.version";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public TaskReactiveRepository(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    public Mono<Task> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks t WHERE t.id = :id")
+            .bind("id", id)
+            .map(TaskReactiveRepository::toTask)
+            .one();
+    }
+
+    public Flux<Task> findAllOrderByCreatedAt() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks t ORDER BY t.created_at, t.id")
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(TaskReactiveRepository::toTask)
+            .all();
+    }
+
+    public Flux<Task> search(String query, String pattern, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks t JOIN ("
+                + TaskRepository.SEARCH_HITS + ") h ON h.id = t.id ORDER BY h.rank DESC, t.id LIMIT :limit")
+            .bind("query", query)
+            .bind("pattern", pattern)
+            .bind("limit", limit)
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(TaskReactiveRepository::toTask)
+            .all();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static Task toTask(Readable row) {
+        return Task.builder()
+            .id(row.get("id", Long.class))
+            .title(row.get("title", String.class))
+            .description(row.get("description", String.class))
+            .status(TaskStatus.valueOf(row.get("status", String.class)))
+            .dueDateTime(row.get("due_date_time", LocalDateTime.class))
+            .createdAt(row.get("created_at", LocalDateTime.class))
+            .updatedAt(row.get("updated_at", LocalDateTime.class))
+            .version(row.get("version", Long.class))
+            .build();
+    }
+}
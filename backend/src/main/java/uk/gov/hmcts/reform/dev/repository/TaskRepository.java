@@ -1,12 +1,233 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.entity.Task;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    String SEARCH_HITS = """
+        SELECT id, rank FROM (
+          SELECT id,
+                 CAST(greatest(ts_rank(search_vector, websearch_to_tsquery('english', :query)),
+                               similarity(title, :query)) AS real) AS rank
+          FROM tasks
+          WHERE search_vector @@ websearch_to_tsquery('english', :query)
+             OR title ILIKE :pattern
+             OR description ILIKE :pattern
+        ) hits
+        """;
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Task> findAllByOrderByCreatedAtAsc();
+
+    /**
+     * Returns the oldest transaction ID still running. Every change with a lower version has
+     * committed or rolled back, so it is safe to report changes up to here.
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findChangeHorizon();
+
+    @Query(
+        value = """
+            SELECT id, version, deleted FROM (
+              SELECT id, change_version AS version, false AS deleted FROM tasks
+              UNION ALL
+              SELECT task_id, change_version, true FROM task_tombstones
+            ) changes
+            WHERE version < :horizon AND (version, id) > (:afterVersion, :afterId)
+            ORDER BY version, id
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<TaskChangeHit> findChangesAfter(@Param("horizon") long horizon,
+                                         @Param("afterVersion") long afterVersion,
+                                         @Param("afterId") long afterId,
+                                         @Param("limit") int limit);
+
+    /**
+     * Returns the lowest version a delta sync can start from and still see every delete, as the
+     * tombstones below it have been pruned. Zero until the first prune.
+     */
+    @Query(value = "SELECT coalesce(max(version), 0) FROM task_change_floor", nativeQuery = true)
+    long findChangeFloor();
+
+    /**
+     * Deletes up to {@code limit} tombstones from before {@code deletedBefore}, raises the change
+     * floor above them in the same statement, and returns how many were deleted. Change versions
+     * follow deletion order closely, so walking the version index finds the old ones first.
+     */
+    @Query(
+        value = """
+            WITH pruned AS (
+              DELETE FROM task_tombstones WHERE task_id IN (
+                SELECT task_id FROM task_tombstones
+                WHERE deleted_at < :deletedBefore
+                ORDER BY change_version, task_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+              )
+              RETURNING change_version
+            ), raised AS (
+              INSERT INTO task_change_floor (id, version)
+              SELECT 1, max(change_version) + 1 FROM pruned HAVING count(*) > 0
+              ON CONFLICT (id) DO UPDATE SET version = greatest(task_change_floor.version, excluded.version)
+            )
+            SELECT count(*) FROM pruned
+            """,
+        nativeQuery = true
+    )
+    long pruneTombstonesDeletedBefore(@Param("deletedBefore") LocalDateTime deletedBefore,
+                                      @Param("limit") int limit);
+
+    // Native queries name the tables they read so Hibernate knows when a cached result is stale
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_NATIVE_SPACES, value = "tasks")
+    })
+    @Query(
+        value = "SELECT * FROM tasks ORDER BY created_at, id LIMIT :limit",
+        nativeQuery = true
+    )
+    List<Task> findFirstPage(@Param("limit") int limit);
+
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_NATIVE_SPACES, value = "tasks")
+    })
+    @Query(
+        value = "SELECT * FROM tasks WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit",
+        nativeQuery = true
+    )
+    List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             @Param("limit") int limit);
+
+    @Query(
+        value = SEARCH_HITS + """
+            ORDER BY rank DESC, id
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<TaskSearchHit> searchFirstPage(@Param("query") String query,
+                                        @Param("pattern") String pattern,
+                                        @Param("limit") int limit);
+
+    @Query(
+        value = SEARCH_HITS + """
+            WHERE rank < :afterRank OR (rank = :afterRank AND id > :afterId)
+            ORDER BY rank DESC, id
+            LIMIT :limit
+            """,
+        nativeQuery = true
+    )
+    List<TaskSearchHit> searchPageAfter(@Param("query") String query,
+                                        @Param("pattern") String pattern,
+                                        @Param("afterRank") float afterRank,
+                                        @Param("afterId") Long afterId,
+                                        @Param("limit") int limit);
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false"),
+        @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt, t.id")
+    Stream<Task> streamAllForExport();
+
+    // The status updates below run as queries, so Hibernate does not see the write and callers must
+    // evict the changed tasks from the second-level cache
+    @Query(
+        value = """
+            UPDATE tasks SET status = :status, updated_at = :updatedAt, version = version + 1
+            WHERE id = :id AND (CAST(:expectedVersion AS bigint) IS NULL OR version = :expectedVersion)
+            RETURNING *
+            """,
+        nativeQuery = true
+    )
+    Optional<Task> updateStatusById(@Param("id") Long id,
+                                    @Param("status") String status,
+                                    @Param("updatedAt") LocalDateTime updatedAt,
+                                    @Param("expectedVersion") Long expectedVersion);
+
+    @Query(
+        value = """
+            UPDATE tasks SET status = :status, updated_at = :updatedAt, version = version + 1
+            WHERE id IN (:ids)
+            RETURNING id
+            """,
+        nativeQuery = true
+    )
+    List<Long> updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                                  @Param("status") String status,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(
+        value = """
+            UPDATE tasks SET status = :status, updated_at = :updatedAt, version = version + 1
+            WHERE (CAST(:currentStatus AS varchar) IS NULL OR status = :currentStatus)
+              AND (CAST(:dueBefore AS timestamp) IS NULL OR due_date_time < :dueBefore)
+            RETURNING id
+            """,
+        nativeQuery = true
+    )
+    List<Long> updateStatusByFilter(@Param("currentStatus") String currentStatus,
+                                    @Param("dueBefore") LocalDateTime dueBefore,
+                                    @Param("status") String status,
+                                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(
+        value = """
+            WITH deleted AS (DELETE FROM tasks WHERE id = :id RETURNING id)
+            INSERT INTO task_tombstones (task_id, deleted_at) SELECT id, :deletedAt FROM deleted
+            """,
+        nativeQuery = true
+    )
+    int deleteTaskById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Oldest first, so idx_tasks_closed_updated_at hands rows over in order and the scan stops at the limit
+    @Query(
+        value = """
+            WITH deleted AS (
+              DELETE FROM tasks WHERE id IN (
+                SELECT id FROM tasks
+                WHERE status IN (:statuses) AND updated_at < :olderThan
+                ORDER BY updated_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+              )
+              RETURNING id
+            )
+            INSERT INTO task_tombstones (task_id, deleted_at) SELECT id, :deletedAt FROM deleted
+            RETURNING task_id
+            """,
+        nativeQuery = true
+    )
+    List<Long> deleteChunkByStatusInAndUpdatedAtBefore(@Param("statuses") Collection<String> statuses,
+                                                       @Param("olderThan") LocalDateTime olderThan,
+                                                       @Param("deletedAt") LocalDateTime deletedAt,
+                                                       @Param("limit") int limit);
 }
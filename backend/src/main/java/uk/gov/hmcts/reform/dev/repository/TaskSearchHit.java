@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+public interface TaskSearchHit {
+    Long getId();
+
+    Float getRank();
+}
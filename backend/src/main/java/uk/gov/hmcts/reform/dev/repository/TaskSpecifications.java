@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static uk.gov.hmcts.reform.dev.dto.TaskSortKey.DUE_DATE_TIME;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.IN_PROGRESS;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+public final class TaskSpecifications {
+
+    public static final List<TaskStatus> OPEN_STATUSES = List.of(TODO, IN_PROGRESS);
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> fromQuery(TaskQueryRequest query, LocalDateTime now) {
+        List<Specification<Task>> specifications = new ArrayList<>();
+        if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+            specifications.add(statusIn(query.getStatus()));
+        }
+        if (query.isOverdue()) {
+            specifications.add(isOpen());
+            specifications.add(before("dueDateTime", now));
+        }
+        if (query.getSort() == DUE_DATE_TIME) {
+            specifications.add(isNotNull("dueDateTime"));
+        }
+        addRange(specifications, "dueDateTime", query.getDueFrom(), query.getDueTo());
+        addRange(specifications, "createdAt", query.getCreatedFrom(), query.getCreatedTo());
+        addRange(specifications, "updatedAt", query.getUpdatedFrom(), query.getUpdatedTo());
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, criteriaQuery, builder) -> root.get("status").in(statuses);
+    }
+
+    // The open statuses are rendered as literals rather than bound, so Postgres can match the predicate of
+    // idx_tasks_open_due_date_time_id even when it reuses a generic plan for the statement
+    public static Specification<Task> isOpen() {
+        return (root, criteriaQuery, builder) -> root.get("status")
+            .in(OPEN_STATUSES.stream().map(builder::literal).toArray(Expression<?>[]::new));
+    }
+
+    public static Specification<Task> atOrAfter(String property, LocalDateTime from) {
+        return (root, criteriaQuery, builder) -> builder.greaterThanOrEqualTo(root.<LocalDateTime>get(property), from);
+    }
+
+    public static Specification<Task> atOrBefore(String property, LocalDateTime to) {
+        return (root, criteriaQuery, builder) -> builder.lessThanOrEqualTo(root.<LocalDateTime>get(property), to);
+    }
+
+    public static Specification<Task> before(String property, LocalDateTime to) {
+        return (root, criteriaQuery, builder) -> builder.lessThan(root.<LocalDateTime>get(property), to);
+    }
+
+    public static Specification<Task> isNotNull(String property) {
+        return (root, criteriaQuery, builder) -> builder.isNotNull(root.get(property));
+    }
+
+    private static void addRange(List<Specification<Task>> specifications, String property,
+                                 LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Range start for " + property + " must be before its end");
+        }
+        if (from != null) {
+            specifications.add(atOrAfter(property, from));
+        }
+        if (to != null) {
+            specifications.add(before(property, to));
+        }
+    }
+}
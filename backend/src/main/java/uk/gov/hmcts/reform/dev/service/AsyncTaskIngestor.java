@@ -0,0 +1,251 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.dto.AsyncTaskStatus;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.exception.TaskQueueFullException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts tasks for creation without waiting for the database. An accepted task is given an ID,
+ * recorded in the {@link TaskIngestionJournal} and queued; a background writer inserts queued tasks
+ * in batches. Once the queue holds {@code tasks.async-create.queue-capacity} tasks, further ones are
+ * refused until it drains.
+ *
+ * <p>If the database is unavailable the writer retries the batch until it succeeds. A batch the
+ * database rejects, for example a title too long for its column, is written one task at a time so
+ * only the offending task fails. Tasks still queued when the application stops stay in the journal
+ * and are written after the next start.
+ *
+ * <p>Pending and failed tasks are only known to the instance that accepted them; other instances
+ * report a task once it has been written.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.async-create", name = "enabled", havingValue = "true")
+@Slf4j
+public class AsyncTaskIngestor {
+
+    static final String PENDING = "tasks.async-create.pending";
+    static final String REJECTED = "tasks.async-create.rejected";
+    static final String FAILED = "tasks.async-create.failed";
+    static final String WRITES = "tasks.async-create.writes";
+    static final int MAX_FAILURES_KEPT = 10_000;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final TaskIdAllocator taskIdAllocator;
+    private final TaskBatchWriter taskBatchWriter;
+    private final TaskIngestionJournal journal;
+    private final int batchSize;
+    private final Semaphore capacity;
+    private final BlockingQueue<PendingTask> queue = new LinkedBlockingQueue<>();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, String> failures = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+            return size() > MAX_FAILURES_KEPT;
+        }
+    });
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer writes;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    @Autowired
+    public AsyncTaskIngestor(TaskIdAllocator taskIdAllocator,
+                             TaskBatchWriter taskBatchWriter,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${tasks.async-create.journal:task-ingest.journal}") String journal,
+                             @Value("${tasks.async-create.queue-capacity:10000}") int queueCapacity,
+                             @Value("${tasks.async-create.batch-size:500}") int batchSize,
+                             @Value("${tasks.async-create.retry-interval:1s}") Duration retryInterval) {
+        this(taskIdAllocator, taskBatchWriter, new TaskIngestionJournal(Path.of(journal), objectMapper),
+            meterRegistry, queueCapacity, batchSize);
+        writer = Thread.ofPlatform()
+            .name("task-ingest-writer")
+            .daemon()
+            .start(() -> runWriter(retryInterval));
+    }
+
+    AsyncTaskIngestor(TaskIdAllocator taskIdAllocator, TaskBatchWriter taskBatchWriter,
+                      TaskIngestionJournal journal, MeterRegistry meterRegistry, int queueCapacity, int batchSize) {
+        this.taskIdAllocator = taskIdAllocator;
+        this.taskBatchWriter = taskBatchWriter;
+        this.journal = journal;
+        this.batchSize = batchSize;
+
+        List<PendingTask> recovered;
+        try {
+            recovered = journal.recover();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not recover accepted tasks from the journal", ex);
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Recovered {} accepted tasks from the journal", recovered.size());
+        }
+        recovered.forEach(task -> pendingIds.add(task.id()));
+        queue.addAll(recovered);
+        // Goes negative if more were recovered than the queue holds, refusing tasks until they drain
+        this.capacity = new Semaphore(queueCapacity - recovered.size());
+
+        Gauge.builder(PENDING, pendingIds, Set::size)
+            .description("Tasks accepted for creation and not yet written")
+            .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED)
+            .description("Tasks refused because the queue was full")
+            .register(meterRegistry);
+        this.failed = Counter.builder(FAILED)
+            .description("Accepted tasks the database rejected")
+            .register(meterRegistry);
+        this.writes = Timer.builder(WRITES)
+            .description("Time taken to write a batch of accepted tasks")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues the task for creation once it is safely journaled, returning it with its ID.
+     *
+     * @throws TaskQueueFullException if too many tasks are waiting to be written
+     */
+    public PendingTask accept(TaskRequest request) {
+        if (!capacity.tryAcquire()) {
+            rejected.increment();
+            throw new TaskQueueFullException("Too many tasks are waiting to be created; retry shortly");
+        }
+        try {
+            PendingTask task = new PendingTask(taskIdAllocator.nextId(), request, LocalDateTime.now());
+            journal.append(task);
+            pendingIds.add(task.id());
+            queue.add(task);
+            return task;
+        } catch (IOException ex) {
+            capacity.release();
+            throw new UncheckedIOException("Could not journal the accepted task", ex);
+        } catch (RuntimeException ex) {
+            capacity.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the status of a task this instance accepted and has not written, or {@code null} if it
+     * has been written or was never accepted here.
+     */
+    public AsyncTaskStatus status(Long id) {
+        if (pendingIds.contains(id)) {
+            return AsyncTaskStatus.pending(id);
+        }
+        String failure = failures.get(id);
+        return failure == null ? null : AsyncTaskStatus.failed(id, failure);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        if (writer != null) {
+            writer.join(Duration.ofSeconds(10));
+            writer.interrupt();
+        }
+        journal.close();
+    }
+
+    /**
+     * Takes up to a batch of queued tasks, waiting up to the timeout for the first.
+     */
+    List<PendingTask> nextBatch(long timeoutMillis) throws InterruptedException {
+        List<PendingTask> batch = new ArrayList<>(batchSize);
+        PendingTask first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first != null) {
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+        }
+        return batch;
+    }
+
+    /**
+     * Writes the batch, returning {@code false} if it should be retried.
+     */
+    boolean writeBatch(List<PendingTask> batch) {
+        try {
+            write(batch);
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Could not write {} accepted tasks, will retry", batch.size(), ex);
+            return false;
+        }
+    }
+
+    private void runWriter(Duration retryInterval) {
+        try {
+            while (running || !queue.isEmpty()) {
+                List<PendingTask> batch = nextBatch(POLL_TIMEOUT_MILLIS);
+                while (!batch.isEmpty() && !writeBatch(batch)) {
+                    if (!running) {
+                        // Left in the journal for the next start
+                        return;
+                    }
+                    Thread.sleep(retryInterval.toMillis());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<PendingTask> batch) {
+        try {
+            writes.record(() -> taskBatchWriter.insert(batch));
+        } catch (DataIntegrityViolationException ex) {
+            if (batch.size() > 1) {
+                batch.forEach(task -> write(List.of(task)));
+                return;
+            }
+            PendingTask task = batch.getFirst();
+            log.atWarn().addKeyValue("taskId", task.id()).setCause(ex).log("Accepted task rejected by the database");
+            failures.put(task.id(), "The task could not be stored: it does not fit the database schema");
+            failed.increment();
+        }
+        completed(batch);
+    }
+
+    private void completed(List<PendingTask> batch) {
+        try {
+            journal.markWritten(batch.stream().map(PendingTask::id).toList());
+        } catch (IOException ex) {
+            // The tasks are committed, so replaying them after a restart only skips them
+            log.warn("Could not journal {} written tasks", batch.size(), ex);
+        }
+        // A batch retried after writing some tasks one at a time completes those tasks twice
+        batch.stream()
+            .filter(task -> pendingIds.remove(task.id()))
+            .forEach(task -> capacity.release());
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task accepted by {@link AsyncTaskIngestor} that may not have been written yet. It is created
+ * with the time it was accepted, which the client has already been told about through its ID.
+ */
+public record PendingTask(long id, TaskRequest request, LocalDateTime acceptedAt) {
+
+    public TaskResponse toResponse() {
+        return TaskResponse.builder()
+            .id(id)
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .status(request.getStatus())
+            .dueDateTime(request.getDueDateTime())
+            .createdAt(acceptedAt)
+            .updatedAt(acceptedAt)
+            .version(0L)
+            .build();
+    }
+}
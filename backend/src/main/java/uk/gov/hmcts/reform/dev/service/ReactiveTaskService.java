@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+
+public interface ReactiveTaskService {
+    Mono<TaskResponse> getTaskById(Long id);
+
+    Flux<TaskResponse> streamAllTasks();
+
+    Flux<TaskResponse> searchTasks(String query, int limit);
+}
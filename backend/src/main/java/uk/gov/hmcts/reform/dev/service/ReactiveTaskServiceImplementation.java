@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.repository.TaskReactiveRepository;
+
+import static uk.gov.hmcts.reform.dev.service.TaskServiceImplementation.containsPattern;
+import static uk.gov.hmcts.reform.dev.service.TaskServiceImplementation.searchTerms;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveTaskServiceImplementation implements ReactiveTaskService {
+
+    static final int MAX_SEARCH_RESULTS = 1000;
+
+    private final TaskReactiveRepository taskReactiveRepository;
+
+    @Override
+    public Mono<TaskResponse> getTaskById(Long id) {
+        return taskReactiveRepository.findById(id)
+            .map(TaskResponse::fromEntity)
+            .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with id: " + id)));
+    }
+
+    @Override
+    public Flux<TaskResponse> streamAllTasks() {
+        return taskReactiveRepository.findAllOrderByCreatedAt()
+            .map(TaskResponse::fromEntity);
+    }
+
+    @Override
+    public Flux<TaskResponse> searchTasks(String query, int limit) {
+        // Validated before subscription so bad input is rejected before the response starts streaming
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        String terms = searchTerms(query);
+        return taskReactiveRepository.search(terms, containsPattern(terms), limit)
+            .map(TaskResponse::fromEntity);
+    }
+}
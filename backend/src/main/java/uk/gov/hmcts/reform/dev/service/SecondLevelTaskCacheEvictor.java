@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.util.Collection;
+
+/**
+ * Evicts the changed tasks, and every cached query result since any of them may have moved, both
+ * straight away and again when the transaction ends. The second pass removes a row that Hibernate
+ * cached while loading the statement's result, or that a concurrent reader cached before commit.
+ *
+ * <p>A no-op when the second-level cache is switched off.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelTaskCacheEvictor implements TaskCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void evictTasks(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        evict(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(ids);
+                }
+            });
+        }
+    }
+
+    private void evict(Collection<Long> ids) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        ids.forEach(id -> cache.evictEntityData(Task.class, id));
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes tasks accepted by {@link AsyncTaskIngestor} with one multi-row insert per batch.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskBatchWriter {
+
+    static final String COLUMNS = "(id, title, description, status, due_date_time, created_at, updated_at)";
+    static final String INSERT = "INSERT INTO tasks " + COLUMNS + " SELECT * FROM (VALUES ";
+    // Typed so the VALUES list does not resolve the driver's unspecified timestamps as text
+    static final String ROW = "(?, ?, ?, ?, CAST(? AS timestamp), CAST(? AS timestamp), CAST(? AS timestamp))";
+    static final String NOT_DELETED = ") AS accepted " + COLUMNS
+        + " WHERE NOT EXISTS (SELECT 1 FROM task_tombstones WHERE task_id = accepted.id)"
+        + " ON CONFLICT (id) DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCacheEvictor taskCacheEvictor;
+
+    /**
+     * Inserts the tasks and returns the IDs inserted. A task written by an earlier attempt whose
+     * completion never reached the journal is skipped rather than failing the batch, whether it is
+     * still present or has been deleted since and left a tombstone.
+     */
+    @Transactional
+    public List<Long> insert(List<PendingTask> tasks) {
+        String sql = tasks.stream().map(task -> ROW).collect(Collectors.joining(", ", INSERT, NOT_DELETED));
+        List<Long> inserted = jdbcTemplate.query(sql, statement -> {
+            int index = 1;
+            for (PendingTask task : tasks) {
+                statement.setLong(index++, task.id());
+                statement.setString(index++, task.request().getTitle());
+                statement.setString(index++, task.request().getDescription());
+                statement.setString(index++, task.request().getStatus().name());
+                statement.setObject(index++, task.request().getDueDateTime(), Types.TIMESTAMP);
+                statement.setObject(index++, task.acceptedAt(), Types.TIMESTAMP);
+                statement.setObject(index++, task.acceptedAt(), Types.TIMESTAMP);
+            }
+        }, (resultSet, row) -> resultSet.getLong(1));
+
+        // Cached list queries were read before these rows existed
+        taskCacheEvictor.evictTasks(inserted);
+        Set<Long> insertedIds = new HashSet<>(inserted);
+        tasks.stream()
+            .filter(task -> insertedIds.contains(task.id()))
+            .forEach(task -> eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.CREATED, task.toResponse())));
+        log.info("Wrote {} accepted tasks", inserted.size());
+        return inserted;
+    }
+}
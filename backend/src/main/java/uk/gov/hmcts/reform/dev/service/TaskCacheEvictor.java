@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.Collection;
+
+/**
+ * Evicts tasks changed by statements Hibernate cannot see from the second-level cache.
+ */
+@FunctionalInterface
+public interface TaskCacheEvictor {
+
+    void evictTasks(Collection<Long> ids);
+}
@@ -0,0 +1,246 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans task changes out to server-sent event subscribers once the transaction that made them has
+ * committed, so clients never see a change that was rolled back. Changes arrive through
+ * {@link TaskChangeNotifier}, which relays them between instances, so a subscriber sees changes made
+ * on every instance and not only the one it is connected to.
+ *
+ * <p>Every event gets an ID of the form {@code <feed>:<sequence>}, where the feed part is unique to
+ * this instance and changes on each restart. The most recent events are kept so a reconnecting
+ * client that sends its last ID receives only what it missed; if those events are gone, or the ID
+ * is from an earlier run or another instance, it gets a {@code RESET} event and should reload.
+ *
+ * <p>Each subscriber has its own bounded queue drained on its own virtual thread, so a slow client
+ * only blocks itself. A subscriber whose queue fills is disconnected; it can resume from its last ID.
+ */
+@Component
+@Slf4j
+public class TaskChangeFeed {
+
+    private final String feedId = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    private final Deque<FeedEntry> history = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Lock lock = new ReentrantLock();
+    private final int historySize;
+    private final int subscriberBufferSize;
+    private final Duration emitterTimeout;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeats;
+    private long sequence;
+
+    @Autowired
+    public TaskChangeFeed(@Value("${tasks.change-feed.history-size:1000}") int historySize,
+                          @Value("${tasks.change-feed.subscriber-buffer-size:256}") int subscriberBufferSize,
+                          @Value("${tasks.change-feed.heartbeat-interval:15s}") Duration heartbeatInterval,
+                          @Value("${tasks.change-feed.emitter-timeout:30m}") Duration emitterTimeout) {
+        this(historySize, subscriberBufferSize, emitterTimeout, Executors.newVirtualThreadPerTaskExecutor());
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatInterval.toMillis(),
+            heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    TaskChangeFeed(int historySize, int subscriberBufferSize, Duration emitterTimeout, ExecutorService sender) {
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.emitterTimeout = emitterTimeout;
+        this.sender = sender;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-change-feed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void onTaskChange(TaskChangeEvent event) {
+        lock.lock();
+        try {
+            FeedEntry entry = new FeedEntry(++sequence, event);
+            history.addLast(entry);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(entry));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells every subscriber to reload, because changes may have gone by unseen. Clients resuming
+     * from before the reset get a {@code RESET} too, as the history no longer covers what they missed.
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            history.clear();
+            onTaskChange(TaskChangeEvent.of(ChangeType.RESET));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // Replay and registration happen under the publishing lock so nothing is missed or repeated
+        lock.lock();
+        try {
+            List<FeedEntry> missed = missedSince(lastEventId);
+            if (missed == null || missed.size() > subscriberBufferSize) {
+                subscriber.offer(new FeedEntry(sequence, TaskChangeEvent.of(ChangeType.RESET)));
+            } else {
+                missed.forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        sender.shutdown();
+    }
+
+    /**
+     * Returns the events after {@code lastEventId}, or {@code null} when they cannot be recovered.
+     */
+    private List<FeedEntry> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        int separator = lastEventId.lastIndexOf(':');
+        if (separator < 0 || !feedId.equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if (last == sequence) {
+            return List.of();
+        }
+        if (last > sequence || history.isEmpty() || history.getFirst().sequence() > last + 1) {
+            return null;
+        }
+        return history.stream().filter(entry -> entry.sequence() > last).toList();
+    }
+
+    void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(FeedEntry.HEARTBEAT));
+    }
+
+    private record FeedEntry(long sequence, TaskChangeEvent event) {
+        static final FeedEntry HEARTBEAT = new FeedEntry(-1, null);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<FeedEntry> queue = new ArrayBlockingQueue<>(subscriberBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(FeedEntry entry) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(entry)) {
+                if (entry == FeedEntry.HEARTBEAT) {
+                    return;
+                }
+                log.warn("Disconnecting task change subscriber that fell {} events behind", subscriberBufferSize);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                queue.clear();
+                sender.execute(emitter::complete);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                FeedEntry entry;
+                while (!closed.get() && (entry = queue.poll()) != null) {
+                    emitter.send(toSse(entry));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Task change subscriber went away: {}", ex.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toSse(FeedEntry entry) {
+            if (entry == FeedEntry.HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event()
+                .id(feedId + ":" + entry.sequence())
+                .data(entry.event(), MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Carries task changes between instances through Postgres {@code NOTIFY}, so every instance's
+ * {@link TaskChangeFeed} sees the changes made on all of them, its own included.
+ *
+ * <p>The changes a transaction makes are sent with one {@code pg_notify} statement just before it
+ * commits. Postgres delivers notifications only once that transaction commits, and drops them if it
+ * rolls back. Changes made outside a transaction are sent straight away. One connection
+ * per instance, outside the pool, listens and hands what arrives to the feed. If that connection is
+ * lost, changes may have been missed while it was down, so the feed is reset once it is back.
+ *
+ * <p>A notification holds under 8000 bytes. A change too large for that is sent without the task,
+ * leaving subscribers to fetch it.
+ */
+@Component
+@Slf4j
+public class TaskChangeNotifier {
+
+    static final String CHANNEL = "task_changes";
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final String NOTIFY =
+        "SELECT pg_notify('" + CHANNEL + "', payload) FROM unnest(?::text[]) AS payload";
+    private static final int POLL_MILLIS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskChangeFeed taskChangeFeed;
+    private final DataSourceProperties dataSourceProperties;
+    private final Duration retryInterval;
+    private final ExecutorService listener;
+    private volatile boolean running = true;
+    private volatile Connection connection;
+
+    @Autowired
+    public TaskChangeNotifier(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, TaskChangeFeed taskChangeFeed,
+                              DataSourceProperties dataSourceProperties,
+                              @Value("${tasks.change-feed.listen-retry-interval:5s}") Duration retryInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.taskChangeFeed = taskChangeFeed;
+        this.dataSourceProperties = dataSourceProperties;
+        this.retryInterval = retryInterval;
+        this.listener = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-change-listener");
+            thread.setDaemon(true);
+            return thread;
+        });
+        listener.execute(this::listen);
+    }
+
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        String payload = payload(objectMapper, event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(payload));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<String> pending = (List<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<String> payloads = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, payloads);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(payloads);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeNotifier.this);
+                }
+            });
+            pending = payloads;
+        }
+        pending.add(payload);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        listener.shutdownNow();
+        closeQuietly(connection);
+    }
+
+    static String payload(ObjectMapper objectMapper, TaskChangeEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+                return payload;
+            }
+            return objectMapper.writeValueAsString(
+                new TaskChangeEvent(event.getType(), event.getTaskId(), null, event.getOccurredAt()));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void send(List<String> payloads) {
+        jdbcTemplate.query(NOTIFY,
+            statement -> statement.setArray(1, statement.getConnection().createArrayOf("text", payloads.toArray())),
+            (ResultSetExtractor<Void>) resultSet -> null);
+    }
+
+    private void listen() {
+        boolean listenedBefore = false;
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (listenedBefore) {
+                    log.info("Listening for task changes again; resetting the change feed");
+                    taskChangeFeed.reset();
+                }
+                listenedBefore = true;
+                receive(listening.unwrap(PGConnection.class), listening);
+            } catch (SQLException | RuntimeException ex) {
+                if (running) {
+                    log.warn("Lost the task change listener connection, retrying in {}", retryInterval, ex);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void receive(PGConnection notifications, Connection listening) throws SQLException {
+        while (running) {
+            PGNotification[] received = notifications.getNotifications(POLL_MILLIS);
+            if (received == null || received.length == 0) {
+                // A connection that went away silently only shows up when it is used
+                if (!listening.isValid(POLL_MILLIS / 1000)) {
+                    throw new SQLException("Task change listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : received) {
+                try {
+                    taskChangeFeed.onTaskChange(objectMapper.readValue(notification.getParameter(),
+                        TaskChangeEvent.class));
+                } catch (JsonProcessingException ex) {
+                    log.warn("Skipping unreadable task change notification: {}", ex.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(retryInterval.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Could not close the task change listener connection: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hands out task IDs before the task is inserted. IDs come from {@code tasks_id_seq} in blocks of
+ * {@link Task#ID_ALLOCATION_SIZE} ending at the value read, as Hibernate's pooled optimizer claims
+ * them, so they never clash with the IDs Hibernate assigns.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskIdAllocator {
+
+    private static final String NEXT_BLOCK = "SELECT nextval('" + Task.ID_SEQUENCE + "')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Lock lock = new ReentrantLock();
+    private long next = 1;
+    private long last;
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next > last) {
+                last = requireNonNull(jdbcTemplate.queryForObject(NEXT_BLOCK, Long.class));
+                next = last - Task.ID_ALLOCATION_SIZE + 1;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only local record of the tasks {@link AsyncTaskIngestor} has accepted, so none are lost if
+ * the process stops before writing them. Each accepted task is appended and synced to disk before
+ * the client is answered, and the IDs of written tasks are appended once they have committed. On
+ * startup the tasks accepted but never written are recovered and the journal is rewritten to hold
+ * only those. While running, the journal is emptied whenever every accepted task has been written,
+ * and rewritten to hold only the unwritten ones once it passes a size threshold, so it stays small
+ * under steady load.
+ */
+@Slf4j
+public class TaskIngestionJournal implements Closeable {
+
+    static final long DEFAULT_COMPACTION_THRESHOLD = 16 * 1024 * 1024;
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final long compactionThreshold;
+    private final Lock lock = new ReentrantLock();
+    // Accepted and not yet written, which is all a compacted journal has to hold
+    private final Map<Long, PendingTask> outstanding = new LinkedHashMap<>();
+    private volatile FileChannel channel;
+
+    public TaskIngestionJournal(Path file, ObjectMapper objectMapper) {
+        this(file, objectMapper, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    TaskIngestionJournal(Path file, ObjectMapper objectMapper, long compactionThreshold) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the tasks accepted by an earlier run but not written, in the order they were accepted,
+     * and opens the journal for appending. Must be called once, before anything is appended.
+     */
+    public List<PendingTask> recover() throws IOException {
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Entry entry;
+                try {
+                    entry = objectMapper.readValue(line, Entry.class);
+                } catch (JsonProcessingException ex) {
+                    // Only a write cut short by a crash, which was never acknowledged, leaves a bad line
+                    log.warn("Skipping unreadable task journal entry: {}", ex.getOriginalMessage());
+                    continue;
+                }
+                if (entry.accepted() != null) {
+                    outstanding.put(entry.accepted().id(), entry.accepted());
+                } else if (entry.written() != null) {
+                    entry.written().forEach(outstanding::remove);
+                }
+            }
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        compact();
+        return List.copyOf(outstanding.values());
+    }
+
+    public void append(PendingTask task) throws IOException {
+        FileChannel target;
+        lock.lock();
+        try {
+            writeFully(channel, new Entry(task, null));
+            outstanding.put(task.id(), task);
+            target = channel;
+        } finally {
+            lock.unlock();
+        }
+        sync(target);
+    }
+
+    public void markWritten(Collection<Long> ids) throws IOException {
+        FileChannel target;
+        lock.lock();
+        try {
+            ids.forEach(outstanding::remove);
+            if (outstanding.isEmpty()) {
+                // Nothing is left to recover. Should the truncation be lost in a crash, the tasks
+                // replayed are already written and are skipped.
+                channel.truncate(0);
+            } else {
+                writeFully(channel, new Entry(null, List.copyOf(ids)));
+                if (channel.size() >= compactionThreshold) {
+                    compact();
+                }
+            }
+            target = channel;
+        } finally {
+            lock.unlock();
+        }
+        sync(target);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Rewrites the journal to hold only the outstanding tasks and reopens it for appending. Called
+     * during recovery or with the lock held.
+     */
+    private void compact() throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(compacted, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            for (PendingTask task : outstanding.values()) {
+                writeFully(out, new Entry(task, null));
+            }
+            out.force(false);
+        }
+        Files.move(compacted, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        FileChannel previous = channel;
+        channel = FileChannel.open(file, CREATE, WRITE, APPEND);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    // Syncing outside the lock lets appenders that arrive together share one sync
+    private void sync(FileChannel target) throws IOException {
+        try {
+            target.force(false);
+        } catch (ClosedChannelException ex) {
+            // A compaction since the write replaced the channel, having synced everything still needed
+            if (target == channel) {
+                throw ex;
+            }
+        }
+    }
+
+    private void writeFully(FileChannel target, Entry entry) throws IOException {
+        // The leading newline keeps an entry whole even if the write before it was cut short
+        String line = "\n" + objectMapper.writeValueAsString(entry);
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    /**
+     * A journal line, recording either one accepted task or the IDs of tasks written.
+     */
+    record Entry(PendingTask accepted, List<Long> written) {
+    }
+}
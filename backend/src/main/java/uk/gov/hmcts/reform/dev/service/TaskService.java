@@ -1,22 +1,48 @@
 package uk.gov.hmcts.reform.dev.service;
 
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResponse;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskExportFormat;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TaskService {
 
     TaskResponse createTask(TaskRequest taskRequest);
 
+    BulkCreateTaskResponse createTasks(List<TaskRequest> taskRequests);
+
     TaskResponse getTaskById(Long taskId);
 
     List<TaskResponse> getAllTasks();
 
-    TaskResponse updateTaskStatus(Long taskId, TaskStatus taskStatus);
+    TaskPageResponse getTasks(String pageToken, int size);
+
+    TaskPageResponse queryTasks(TaskQueryRequest query);
+
+    TaskPageResponse searchTasks(String query, String pageToken, int size);
+
+    TaskChangesResponse getTaskChanges(Long since, String pageToken, int size);
 
-    TaskResponse updateTask(Long taskId, TaskRequest taskRequest);
+    long exportTasks(TaskExportFormat format, OutputStream outputStream) throws IOException;
+
+    TaskResponse updateTaskStatus(Long taskId, TaskStatus taskStatus, Long expectedVersion);
+
+    BulkStatusUpdateResponse updateTaskStatuses(BulkStatusUpdateRequest request);
+
+    TaskResponse updateTask(Long taskId, TaskRequest taskRequest, Long expectedVersion);
 
     void deleteTask(Long taskId);
+
+    long purgeClosedTasks(LocalDateTime olderThan);
 }
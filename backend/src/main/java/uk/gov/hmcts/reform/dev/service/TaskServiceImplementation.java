@@ -1,42 +1,151 @@
 package uk.gov.hmcts.reform.dev.service;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResponse;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResult;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeCursor;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.dto.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.dto.TaskExportFormat;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskSearchCursor;
 import uk.gov.hmcts.reform.dev.entity.Task;
 import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
 import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.repository.TaskChangeHit;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchHit;
+import uk.gov.hmcts.reform.dev.repository.TaskSpecifications;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+import static uk.gov.hmcts.reform.dev.config.CacheConfig.TASKS_CACHE;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Observed(name = "tasks.service")
 public class TaskServiceImplementation implements TaskService {
 
+    static final int MAX_PAGE_SIZE = 200;
+    static final int EXPORT_FLUSH_INTERVAL = 500;
+    static final int MIN_SEARCH_LENGTH = 3;
+    static final int MAX_SEARCH_LENGTH = 200;
+    static final int MAX_BULK_SIZE = 1000;
+    static final int BULK_BATCH_SIZE = 50;
+    static final int PURGE_CHUNK_SIZE = 500;
+    static final List<String> CLOSED_STATUSES = List.of(TaskStatus.COMPLETED.name(), TaskStatus.CANCELLED.name());
+    static final String CSV_HEADER = "id,title,description,status,dueDateTime,createdAt,updatedAt";
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCacheEvictor taskCacheEvictor;
 
     @Override
     public TaskResponse createTask(TaskRequest request) {
-        Task task = Task.builder()
-            .title(request.getTitle())
-            .description(request.getDescription())
-            .status(request.getStatus())
-            .dueDateTime(request.getDueDateTime())
-            .build();
+        Task savedTask = taskRepository.save(toEntity(request));
+        log.atInfo().addKeyValue("taskId", savedTask.getId()).log("Task created");
+        TaskResponse response = TaskResponse.fromEntity(savedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.CREATED, response));
+        return response;
+    }
+
+    @Override
+    public BulkCreateTaskResponse createTasks(List<TaskRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk requests must contain between 1 and " + MAX_BULK_SIZE + " tasks");
+        }
+
+        BulkCreateTaskResult[] results = new BulkCreateTaskResult[requests.size()];
+        Map<Integer, Task> pending = new LinkedHashMap<>();
+        int rejected = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            Map<String, String> errors = validate(requests.get(index));
+            if (!errors.isEmpty()) {
+                results[index] = BulkCreateTaskResult.rejected(index, errors);
+                rejected++;
+                continue;
+            }
+
+            pending.put(index, taskRepository.save(toEntity(requests.get(index))));
+            if (pending.size() == BULK_BATCH_SIZE) {
+                flushBatch(pending, results);
+            }
+        }
+        flushBatch(pending, results);
 
-        Task savedTask = taskRepository.save(task);
-        log.info("Task created successfully with id {}", savedTask.getId());
-        return TaskResponse.fromEntity(savedTask);
+        int created = requests.size() - rejected;
+        log.info("Bulk created {} tasks, rejected {}", created, rejected);
+        publishBulkChange(Arrays.stream(results)
+            .filter(result -> result.getOutcome() == BulkCreateTaskResult.Outcome.CREATED)
+            .map(result -> TaskChangeEvent.of(ChangeType.CREATED, result.getTask()))
+            .toList());
+        return BulkCreateTaskResponse.builder()
+            .created(created)
+            .rejected(rejected)
+            .results(Arrays.asList(results))
+            .build();
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = TASKS_CACHE, key = "#id")
     public TaskResponse getTaskById(Long id) {
         Task task = taskRepository.findById(id)
             .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
@@ -54,40 +163,410 @@ public class TaskServiceImplementation implements TaskService {
     }
 
     @Override
-    public TaskResponse updateTaskStatus(Long id, TaskStatus status) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTasks(String pageToken, int size) {
+        validatePageSize(size);
 
-        task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
-        log.info("Task {} status updated to: {}", id, status);
+        List<Task> tasks;
+        if (pageToken == null || pageToken.isBlank()) {
+            tasks = taskRepository.findFirstPage(size + 1);
+        } else {
+            TaskCursor cursor = TaskCursor.decode(pageToken);
+            tasks = taskRepository.findPageAfter(cursor.position(), cursor.id(), size + 1);
+        }
+
+        boolean hasNext = tasks.size() > size;
+        List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
 
-        return TaskResponse.fromEntity(updatedTask);
+        return TaskPageResponse.builder()
+            .tasks(page.stream().map(TaskResponse::fromEntity).toList())
+            .nextPageToken(hasNext ? TaskCursor.fromEntity(page.getLast()).encode() : null)
+            .build();
     }
 
     @Override
-    public TaskResponse updateTask(Long id, TaskRequest request) {
+    @Transactional(readOnly = true)
+    public TaskPageResponse queryTasks(TaskQueryRequest query) {
+        validatePageSize(query.getSize());
+        Specification<Task> specification = TaskSpecifications.fromQuery(query, LocalDateTime.now());
+        String property = query.getSort().getProperty();
+        Sort sort = Sort.by(query.getDirection(), property, "id");
+
+        ScrollPosition position = ScrollPosition.keyset();
+        if (query.getPageToken() != null && !query.getPageToken().isBlank()) {
+            TaskCursor cursor = TaskCursor.decode(query.getPageToken());
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(property, cursor.position());
+            keys.put("id", cursor.id());
+            position = ScrollPosition.forward(keys);
+            // The scroll continues with an OR of the keys that Postgres can't use to start an index scan,
+            // so the leading key is repeated as a plain range that it can
+            specification = specification.and(query.getDirection().isAscending()
+                ? TaskSpecifications.atOrAfter(property, cursor.position())
+                : TaskSpecifications.atOrBefore(property, cursor.position()));
+        }
+
+        ScrollPosition start = position;
+        Window<Task> window = taskRepository.findBy(specification, fluentQuery -> fluentQuery
+            .sortBy(sort)
+            .limit(query.getSize())
+            .scroll(start));
+
+        List<Task> tasks = window.getContent();
+        return TaskPageResponse.builder()
+            .tasks(tasks.stream().map(TaskResponse::fromEntity).toList())
+            .nextPageToken(window.hasNext() ? query.getSort().cursorOf(tasks.getLast()).encode() : null)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponse searchTasks(String query, String pageToken, int size) {
+        validatePageSize(size);
+        String terms = searchTerms(query);
+        String pattern = containsPattern(terms);
+
+        List<TaskSearchHit> hits;
+        if (pageToken == null || pageToken.isBlank()) {
+            hits = taskRepository.searchFirstPage(terms, pattern, size + 1);
+        } else {
+            TaskSearchCursor cursor = TaskSearchCursor.decode(pageToken);
+            hits = taskRepository.searchPageAfter(terms, pattern, cursor.rank(), cursor.id(), size + 1);
+        }
+
+        boolean hasNext = hits.size() > size;
+        List<TaskSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        Map<Long, Task> tasksById = taskRepository.findAllById(page.stream().map(TaskSearchHit::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        TaskSearchHit last = hasNext ? page.getLast() : null;
+        return TaskPageResponse.builder()
+            .tasks(page.stream()
+                .map(hit -> tasksById.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .map(TaskResponse::fromEntity)
+                .toList())
+            .nextPageToken(last == null ? null : new TaskSearchCursor(last.getRank(), last.getId()).encode())
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getTaskChanges(Long since, String pageToken, int size) {
+        validatePageSize(size);
+
+        TaskChangeCursor cursor;
+        boolean reset = false;
+        if (pageToken == null || pageToken.isBlank()) {
+            long start = since == null ? 0 : since;
+            if (start < 0) {
+                throw new IllegalArgumentException("Change version must not be negative");
+            }
+            // Deletes below the floor have been pruned, so a client that far behind starts over
+            reset = start > 0 && start < taskRepository.findChangeFloor();
+            if (reset) {
+                start = 0;
+            }
+            // Versions at or above the horizon may belong to transactions that are still running, so
+            // they are left for the next sync. Starting at (since, 0) includes changes made at since.
+            long horizon = Math.max(taskRepository.findChangeHorizon(), start);
+            cursor = new TaskChangeCursor(horizon, start, 0);
+        } else {
+            cursor = TaskChangeCursor.decode(pageToken);
+        }
+
+        List<TaskChangeHit> hits = taskRepository.findChangesAfter(
+            cursor.horizon(), cursor.version(), cursor.id(), size + 1
+        );
+        boolean hasNext = hits.size() > size;
+        List<TaskChangeHit> page = hasNext ? hits.subList(0, size) : hits;
+
+        Map<Boolean, List<Long>> idsByDeleted = page.stream().collect(Collectors.partitioningBy(
+            TaskChangeHit::getDeleted, Collectors.mapping(TaskChangeHit::getId, Collectors.toList())
+        ));
+        // A task deleted since the hits were read is missing here and shows up as a delete next sync
+        Map<Long, Task> tasksById = taskRepository.findAllById(idsByDeleted.get(false))
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        TaskChangeHit last = hasNext ? page.getLast() : null;
+        return TaskChangesResponse.builder()
+            .tasks(idsByDeleted.get(false).stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .map(TaskResponse::fromEntity)
+                .toList())
+            .deletedIds(idsByDeleted.get(true))
+            .version(cursor.horizon())
+            .reset(reset)
+            .nextPageToken(last == null ? null
+                : new TaskChangeCursor(cursor.horizon(), last.getVersion(), last.getId()).encode())
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskExportFormat format, OutputStream outputStream) throws IOException {
+        long exported;
+        try (Stream<Task> tasks = taskRepository.streamAllForExport()) {
+            exported = switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), outputStream);
+                case CSV -> writeCsv(tasks.iterator(), outputStream);
+            };
+        }
+        log.info("Exported {} tasks as {}", exported, format);
+        return exported;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#id")
+    public TaskResponse updateTaskStatus(Long id, TaskStatus status, Long expectedVersion) {
+        Task updatedTask = taskRepository.updateStatusById(id, status.name(), LocalDateTime.now(), expectedVersion)
+            .orElseThrow(() -> expectedVersion != null && taskRepository.existsById(id)
+                ? versionConflict(id, expectedVersion)
+                : new TaskNotFoundException("Task not found with id: " + id));
+        taskCacheEvictor.evictTasks(List.of(id));
+        log.atInfo().addKeyValue("taskId", id).addKeyValue("status", status).log("Task status updated");
+
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.STATUS_CHANGED, response));
+        return response;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = TASKS_CACHE, allEntries = true)
+    public BulkStatusUpdateResponse updateTaskStatuses(BulkStatusUpdateRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byFilter = request.getCurrentStatus() != null || request.getDueBefore() != null;
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Provide either task ids or a filter, but not both");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (byFilter) {
+            List<Long> updatedIds = taskRepository.updateStatusByFilter(
+                request.getCurrentStatus() == null ? null : request.getCurrentStatus().name(),
+                request.getDueBefore(), request.getStatus().name(), now
+            );
+            entityManager.clear();
+            taskCacheEvictor.evictTasks(updatedIds);
+            log.info("Bulk status update moved {} tasks to {}", updatedIds.size(), request.getStatus());
+            publishBulkChange(changes(ChangeType.STATUS_CHANGED, updatedIds));
+            return BulkStatusUpdateResponse.builder()
+                .updated(updatedIds.size())
+                .missingIds(List.of())
+                .build();
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(request.getIds());
+        if (requested.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk requests must contain between 1 and " + MAX_BULK_SIZE + " tasks");
+        }
+
+        Set<Long> updatedIds = new HashSet<>(
+            taskRepository.updateStatusByIdIn(requested, request.getStatus().name(), now)
+        );
+        entityManager.clear();
+        taskCacheEvictor.evictTasks(updatedIds);
+        List<Long> missingIds = requested.stream()
+            .filter(id -> !updatedIds.contains(id))
+            .toList();
+        log.info("Bulk status update moved {} tasks to {}, {} ids missing",
+            updatedIds.size(), request.getStatus(), missingIds.size());
+        publishBulkChange(changes(ChangeType.STATUS_CHANGED, updatedIds));
+
+        return BulkStatusUpdateResponse.builder()
+            .updated(updatedIds.size())
+            .missingIds(missingIds)
+            .build();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#id")
+    public TaskResponse updateTask(Long id, TaskRequest request, Long expectedVersion) {
         Task task = taskRepository.findById(id)
             .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw versionConflict(id, expectedVersion);
+        }
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setStatus(request.getStatus());
         task.setDueDateTime(request.getDueDateTime());
 
-        Task updatedTask = taskRepository.save(task);
-        log.info("Task {} updated", id);
+        // Flushing bumps the version now, so the response carries it and a concurrent write that
+        // slipped in after the read fails here rather than at commit
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        log.atInfo().addKeyValue("taskId", id).log("Task updated");
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.UPDATED, response));
+        return response;
     }
 
     @Override
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#id")
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
+        if (taskRepository.deleteTaskById(id, LocalDateTime.now()) == 0) {
             throw new TaskNotFoundException("Task not found with id: " + id);
         }
 
-        taskRepository.deleteById(id);
-        log.info("Task {} deleted", id);
+        log.atInfo().addKeyValue("taskId", id).log("Task deleted");
+        eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.DELETED, id));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = TASKS_CACHE, allEntries = true)
+    public long purgeClosedTasks(LocalDateTime olderThan) {
+        long deleted = 0;
+        Integer chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> deletedIds = taskRepository.deleteChunkByStatusInAndUpdatedAtBefore(
+                    CLOSED_STATUSES, olderThan, LocalDateTime.now(), PURGE_CHUNK_SIZE
+                );
+                taskCacheEvictor.evictTasks(deletedIds);
+                // Published inside the chunk's transaction so its outbox rows commit with the deletes
+                eventPublisher.publishEvent(new TaskBulkChangeEvent(changes(ChangeType.DELETED, deletedIds)));
+                return deletedIds.size();
+            });
+            deleted += chunk == null ? 0 : chunk;
+        } while (chunk != null && chunk == PURGE_CHUNK_SIZE);
+
+        log.info("Purged {} closed tasks last updated before {}", deleted, olderThan);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.BULK_CHANGED));
+        }
+        return deleted;
+    }
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // The change feed gets one event rather than one per task, so a large batch cannot overflow every
+    // subscriber's buffer, while the outbox still records each task that changed
+    private void publishBulkChange(List<TaskChangeEvent> changes) {
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new TaskBulkChangeEvent(changes));
+            eventPublisher.publishEvent(TaskChangeEvent.of(ChangeType.BULK_CHANGED));
+        }
+    }
+
+    private static List<TaskChangeEvent> changes(ChangeType type, Collection<Long> taskIds) {
+        return taskIds.stream().map(id -> TaskChangeEvent.of(type, id)).toList();
+    }
+
+    private static TaskVersionConflictException versionConflict(Long id, Long expectedVersion) {
+        return new TaskVersionConflictException(
+            "Task " + id + " has changed since version " + expectedVersion + "; fetch it again and retry");
+    }
+
+    static String searchTerms(String query) {
+        String terms = query == null ? "" : query.strip();
+        if (terms.length() < MIN_SEARCH_LENGTH || terms.length() > MAX_SEARCH_LENGTH) {
+            throw new IllegalArgumentException(
+                "Search query must be between " + MIN_SEARCH_LENGTH + " and " + MAX_SEARCH_LENGTH + " characters");
+        }
+        return terms;
+    }
+
+    static String containsPattern(String terms) {
+        String escaped = terms.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static Task toEntity(TaskRequest request) {
+        return Task.builder()
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .status(request.getStatus())
+            .dueDateTime(request.getDueDateTime())
+            .build();
+    }
+
+    private Map<String, String> validate(TaskRequest request) {
+        if (request == null) {
+            return Map.of("task", "The task must not be null.");
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(violation ->
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage())
+        );
+        return errors;
+    }
+
+    private void flushBatch(Map<Integer, Task> pending, BulkCreateTaskResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        pending.forEach((index, task) ->
+            results[index] = BulkCreateTaskResult.created(index, TaskResponse.fromEntity(task))
+        );
+        entityManager.clear();
+        pending.clear();
+    }
+
+    private long writeNdjson(Iterator<Task> tasks, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class).without(FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (tasks.hasNext()) {
+                Task task = tasks.next();
+                writer.writeValue(generator, TaskResponse.fromEntity(task));
+                generator.writeRaw('\n');
+                entityManager.detach(task);
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<Task> tasks, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(String.join(",",
+                String.valueOf(task.getId()),
+                csvField(task.getTitle()),
+                csvField(task.getDescription()),
+                csvField(task.getStatus()),
+                csvField(task.getDueDateTime()),
+                csvField(task.getCreatedAt()),
+                csvField(task.getUpdatedAt())
+            ));
+            writer.write('\n');
+            entityManager.detach(task);
+            if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
     }
 }
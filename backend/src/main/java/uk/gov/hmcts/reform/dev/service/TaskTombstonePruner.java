@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes the tombstones of tasks deleted longer ago than {@code tasks.change-sync.tombstone-retention},
+ * so delta sync does not slow down as deletes pile up. Each prune raises the change floor, and a
+ * client syncing from below it is told to reload; see {@link TaskService#getTaskChanges}.
+ *
+ * <p>Tombstones go in chunks, each in its own transaction, and rows locked by another replica's
+ * pruner are skipped, so every replica can run one.
+ */
+@Component
+@Slf4j
+public class TaskTombstonePruner {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public TaskTombstonePruner(TaskRepository taskRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${tasks.change-sync.tombstone-retention:30d}") Duration retention,
+                               @Value("${tasks.change-sync.prune-interval:1h}") Duration pruneInterval,
+                               @Value("${tasks.change-sync.prune-chunk-size:1000}") int chunkSize) {
+        this(taskRepository, transactionTemplate, retention, chunkSize);
+        scheduler.scheduleWithFixedDelay(this::prune, pruneInterval.toMillis(), pruneInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    TaskTombstonePruner(TaskRepository taskRepository, TransactionTemplate transactionTemplate,
+                        Duration retention, int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-tombstone-pruner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Deletes expired tombstones until a chunk comes back short, returning how many went.
+     */
+    public long prune() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        long pruned = 0;
+        try {
+            Long chunk;
+            do {
+                chunk = transactionTemplate.execute(status ->
+                    taskRepository.pruneTombstonesDeletedBefore(deletedBefore, chunkSize));
+                pruned += chunk == null ? 0 : chunk;
+            } while (chunk != null && chunk == chunkSize);
+        } catch (RuntimeException ex) {
+            log.warn("Pruning task tombstones failed, retrying on next run", ex);
+        }
+        if (pruned > 0) {
+            log.info("Pruned {} task tombstones from before {}", pruned, deletedBefore);
+        }
+        return pruned;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Adds a client span for each JDBC statement to the trace of the request or service call running it,
+ * named after the SQL operation and tagged with the statement text. Statements run outside a trace,
+ * such as migrations and background jobs, are not traced so they don't start traces of their own.
+ */
+public class JdbcStatementTracing implements QueryExecutionListener {
+
+    private static final String SPAN = "span";
+
+    private final Tracer tracer;
+
+    public JdbcStatementTracing(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (tracer.currentSpan() == null) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        Span span = tracer.nextSpan()
+            .name("jdbc " + operation(sql))
+            .kind(Span.Kind.CLIENT)
+            .remoteServiceName("postgresql")
+            .tag("db.system", "postgresql")
+            .tag("db.statement", sql)
+            .start();
+        execInfo.addCustomValue(SPAN, span);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Span span = execInfo.getCustomValue(SPAN, Span.class);
+        if (span == null) {
+            return;
+        }
+        if (execInfo.isBatch()) {
+            span.tag("db.batch.size", String.valueOf(execInfo.getBatchSize()));
+        }
+        if (!execInfo.isSuccess() && execInfo.getThrowable() != null) {
+            span.error(execInfo.getThrowable());
+        }
+        span.end();
+    }
+
+    private static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "statement" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+}
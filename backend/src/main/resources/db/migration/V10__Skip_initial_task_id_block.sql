@@ -0,0 +1,5 @@
+-- V10__Skip_initial_task_id_block.sql
+-- Hibernate's pooled optimizer treats the sequence's initial value specially, taking two values
+-- and the IDs between them. Moving a fresh sequence past it means every allocator reading
+-- tasks_id_seq, including TaskIdAllocator, can claim the block of 50 IDs ending at the value read.
+SELECT setval('tasks_id_seq', 51) FROM tasks_id_seq WHERE NOT is_called;
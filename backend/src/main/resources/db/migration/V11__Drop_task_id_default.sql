@@ -0,0 +1,6 @@
+-- V11__Drop_task_id_default.sql
+-- BIGSERIAL left tasks.id defaulting to nextval('tasks_id_seq'). Since V3 each nextval claims a block
+-- of 50 IDs, so an insert that leaves the ID to the default would use one ID and skip 49. Every
+-- insert now supplies its ID, from Hibernate or TaskIdAllocator, and one that forgets fails instead.
+-- The sequence stays, still owned by the column, for both allocators to read.
+ALTER TABLE tasks ALTER COLUMN id DROP DEFAULT;
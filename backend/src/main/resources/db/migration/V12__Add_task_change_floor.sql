@@ -0,0 +1,7 @@
+-- V12__Add_task_change_floor.sql
+-- Tombstones older than the retention window are pruned. The floor is one above the highest change
+-- version pruned: a delta sync from below it may have missed a delete, so it starts over instead.
+CREATE TABLE IF NOT EXISTS task_change_floor (
+  id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+  version BIGINT NOT NULL
+  );
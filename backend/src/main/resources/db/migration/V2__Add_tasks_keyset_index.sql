@@ -0,0 +1,5 @@
+-- V2__Add_tasks_keyset_index.sql
+-- Supports keyset pagination on (created_at, id); supersedes the single column index.
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks(created_at, id);
+
+DROP INDEX IF EXISTS idx_tasks_created_at;
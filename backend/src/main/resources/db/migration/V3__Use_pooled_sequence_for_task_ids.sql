@@ -0,0 +1,4 @@
+-- V3__Use_pooled_sequence_for_task_ids.sql
+-- Task ids are allocated by Hibernate's pooled optimizer in blocks of 50 so inserts can be batched.
+-- The increment must match allocationSize on Task.id.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- V4__Add_closed_tasks_updated_at_index.sql
+-- Lets the closed task purge find its next chunk without scanning open tasks.
+CREATE INDEX IF NOT EXISTS idx_tasks_closed_updated_at ON tasks(updated_at)
+  WHERE status IN ('COMPLETED', 'CANCELLED');
@@ -0,0 +1,13 @@
+-- V5__Add_task_query_indexes.sql
+-- Composite indexes for the query-tasks filters and sort keys; id is the keyset tie-breaker.
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id ON tasks(status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at_id ON tasks(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_time_id ON tasks(due_date_time, id)
+  WHERE due_date_time IS NOT NULL;
+
+-- Open tasks by due date backs the overdue view, which only ever looks at TODO/IN_PROGRESS.
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date_time_id ON tasks(due_date_time, id)
+  WHERE status IN ('TODO', 'IN_PROGRESS');
+
+-- Superseded by idx_tasks_status_created_at_id.
+DROP INDEX IF EXISTS idx_tasks_status;
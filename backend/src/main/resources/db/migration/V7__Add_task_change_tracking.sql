@@ -0,0 +1,29 @@
+-- V7__Add_task_change_tracking.sql
+-- Every insert and update stamps the row with the ID of the writing transaction as its change
+-- version. A reader that only returns versions below the oldest transaction still running can
+-- never skip a change that commits later with a lower version, which a sequence or updated_at
+-- watermark cannot guarantee.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL
+  DEFAULT CAST(CAST(pg_current_xact_id() AS text) AS bigint);
+
+CREATE OR REPLACE FUNCTION set_task_change_version() RETURNS trigger AS $$
+BEGIN
+  NEW.change_version := CAST(CAST(pg_current_xact_id() AS text) AS bigint);
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_change_version
+  BEFORE UPDATE ON tasks
+  FOR EACH ROW EXECUTE FUNCTION set_task_change_version();
+
+CREATE INDEX IF NOT EXISTS idx_tasks_change_version ON tasks(change_version, id);
+
+-- Deleted task IDs, so delta sync clients can drop them from their copies.
+CREATE TABLE IF NOT EXISTS task_tombstones (
+  task_id BIGINT PRIMARY KEY,
+  change_version BIGINT NOT NULL DEFAULT CAST(CAST(pg_current_xact_id() AS text) AS bigint),
+  deleted_at TIMESTAMP NOT NULL
+  );
+
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_change_version ON task_tombstones(change_version, task_id);
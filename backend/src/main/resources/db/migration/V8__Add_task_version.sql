@@ -0,0 +1,4 @@
+-- V8__Add_task_version.sql
+-- Optimistic locking counter, bumped by every write so a client can make an update conditional
+-- on the version it last read (If-Match) instead of silently overwriting a concurrent change.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
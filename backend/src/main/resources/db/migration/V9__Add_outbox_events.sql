@@ -0,0 +1,11 @@
+-- V9__Add_outbox_events.sql
+-- Task changes waiting to be published downstream. Rows are written in the same transaction as
+-- the change itself and deleted by the relay once the sink has accepted them, so a change is
+-- published at least once if and only if it commits.
+CREATE TABLE IF NOT EXISTS outbox_events (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  event_type VARCHAR(32) NOT NULL,
+  task_id BIGINT,
+  payload TEXT NOT NULL,
+  created_at TIMESTAMP NOT NULL
+  );
@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.config.CacheConfig.TASKS_CACHE;
+
+@DisplayName("CacheConfig Tests")
+class CacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager("maximumSize=2,recordStats");
+    }
+
+    @Test
+    @DisplayName("should defer cache writes until transaction commit")
+    void shouldBeTransactionAware() {
+        assertThat(cacheManager).isInstanceOf(TransactionAwareCacheManagerProxy.class);
+        assertThat(cacheManager.getCache(TASKS_CACHE)).isInstanceOf(TransactionAwareCacheDecorator.class);
+    }
+
+    @Test
+    @DisplayName("should expose the tasks cache")
+    void shouldExposeTasksCache() {
+        assertThat(cacheManager.getCacheNames()).containsExactly(TASKS_CACHE);
+    }
+
+    @Test
+    @DisplayName("should evict immediately outside a transaction")
+    void shouldEvictImmediatelyOutsideTransaction() {
+        Cache cache = requireNonNull(cacheManager.getCache(TASKS_CACHE));
+        cache.put(1L, "task");
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("should drop a put from a read that missed before an eviction")
+    void shouldDropPutFromReadThatRacedEviction() throws Exception {
+        Cache cache = requireNonNull(cacheManager.getCache(TASKS_CACHE));
+        CountDownLatch missed = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            assertThat(cache.get(1L)).isNull();
+            missed.countDown();
+            await(evicted);
+            cache.put(1L, "stale");
+        });
+
+        await(missed);
+        cache.evict(1L);
+        evicted.countDown();
+        reader.get(10, TimeUnit.SECONDS);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("should keep a put from a read that missed after the last eviction")
+    void shouldKeepPutFromReadAfterEviction() {
+        Cache cache = requireNonNull(cacheManager.getCache(TASKS_CACHE));
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, "fresh");
+
+        assertThat(requireNonNull(cache.get(1L)).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("should keep a put to one key when another key is evicted")
+    void shouldKeepPutWhenAnotherKeyIsEvicted() {
+        Cache cache = requireNonNull(cacheManager.getCache(TASKS_CACHE));
+
+        assertThat(cache.get(2L)).isNull();
+        cache.evict(1L);
+        cache.put(2L, "fresh");
+
+        assertThat(requireNonNull(cache.get(2L)).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("should drop puts in flight once too many evicted keys are tracked")
+    void shouldDropPutsOnceTooManyEvictionsAreTracked() {
+        Cache cache = new InvalidationGuardedCache(new ConcurrentMapCache(TASKS_CACHE), 2);
+
+        assertThat(cache.get(1L)).isNull();
+        cache.evict(2L);
+        cache.evict(3L);
+        cache.evict(4L);
+        cache.put(1L, "stale");
+        assertThat(cache.get(1L)).isNull();
+
+        cache.put(1L, "fresh");
+        assertThat(requireNonNull(cache.get(1L)).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("should drop a put from a read that missed before the cache was cleared")
+    void shouldDropPutFromReadThatRacedClear() {
+        Cache cache = requireNonNull(cacheManager.getCache(TASKS_CACHE));
+
+        assertThat(cache.get(1L)).isNull();
+        cache.clear();
+        cache.put(1L, "stale");
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("should publish the tasks cache statistics")
+    void shouldPublishCacheStatistics() {
+        Cache cache = ((TransactionAwareCacheDecorator) requireNonNull(cacheManager.getCache(TASKS_CACHE)))
+            .getTargetCache();
+
+        assertThat(cache).isInstanceOf(InvalidationGuardedCache.class);
+        assertThat(new CacheConfig().invalidationGuardedCacheMeterBinderProvider()
+            .getMeterBinder((InvalidationGuardedCache) cache, List.of())).isNotNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import uk.gov.hmcts.reform.dev.metrics.JdbcRequestMetrics;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcMetricsConfig Tests")
+class JdbcMetricsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withInitializer(context -> context.getBeanFactory()
+            .setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+        .withBean(DataSource.class, DriverManagerDataSource::new)
+        .withUserConfiguration(JdbcMetricsConfig.class);
+
+    @Test
+    @DisplayName("should wrap the DataSource in a proxy that still unwraps to the pool")
+    void shouldWrapDataSource() {
+        contextRunner.run(context -> {
+            DataSource dataSource = context.getBean(DataSource.class);
+
+            assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+            assertThat(dataSource.unwrap(DriverManagerDataSource.class)).isInstanceOf(DriverManagerDataSource.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should apply the metrics interceptor to API requests only")
+    void shouldInterceptApiRequests() {
+        contextRunner.run(context -> {
+            MappedInterceptor interceptor = context.getBean(MappedInterceptor.class);
+
+            assertThat(interceptor.getInterceptor()).isSameAs(context.getBean(JdbcRequestMetrics.class));
+            assertThat(interceptor.getIncludePathPatterns()).containsExactly("/api/**");
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.outbox.FileOutboxSink;
+import uk.gov.hmcts.reform.dev.outbox.LoggingOutboxSink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OutboxConfig Tests")
+class OutboxConfigTest {
+
+    private final OutboxConfig config = new OutboxConfig();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("should publish to the log sink")
+    void shouldCreateLogSink() {
+        assertThat(config.outboxSink("log", "outbox.ndjson", objectMapper)).isInstanceOf(LoggingOutboxSink.class);
+    }
+
+    @Test
+    @DisplayName("should publish to the file sink")
+    void shouldCreateFileSink() {
+        assertThat(config.outboxSink("file", "outbox.ndjson", objectMapper)).isInstanceOf(FileOutboxSink.class);
+    }
+
+    @Test
+    @DisplayName("should reject an unknown sink")
+    void shouldRejectUnknownSink() {
+        assertThatThrownBy(() -> config.outboxSink("kafka", "outbox.ndjson", objectMapper))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("kafka");
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.dev.config.SecondLevelCacheConfig.QUERY_RESULTS_REGION;
+import static uk.gov.hmcts.reform.dev.config.SecondLevelCacheConfig.UPDATE_TIMESTAMPS_REGION;
+
+@DisplayName("SecondLevelCacheConfig Tests")
+class SecondLevelCacheConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withInitializer(context -> context.getBeanFactory()
+            .setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withUserConfiguration(SecondLevelCacheConfig.class);
+
+    private final CaffeineRegionFactory regionFactory =
+        new SecondLevelCacheConfig().secondLevelCacheRegionFactory(2, 2, Duration.ofMinutes(1));
+
+    @Nested
+    @DisplayName("Toggle")
+    class Toggle {
+
+        @Test
+        @DisplayName("should hand the region factory to Hibernate by default")
+        void shouldConfigureHibernateByDefault() {
+            contextRunner.run(context -> {
+                Map<String, Object> properties = new HashMap<>();
+                context.getBean(HibernatePropertiesCustomizer.class).customize(properties);
+
+                assertThat(properties.get(AvailableSettings.CACHE_REGION_FACTORY))
+                    .isSameAs(context.getBean(CaffeineRegionFactory.class));
+            });
+        }
+
+        @Test
+        @DisplayName("should stay out of the way when switched off")
+        void shouldNotConfigureWhenDisabled() {
+            contextRunner.withPropertyValues("tasks.second-level-cache.enabled=false")
+                .run(context -> assertThat(context)
+                    .doesNotHaveBean(CaffeineRegionFactory.class)
+                    .doesNotHaveBean(HibernatePropertiesCustomizer.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Regions")
+    class Regions {
+
+        @Test
+        @DisplayName("should store, read and evict entries")
+        void shouldStoreAndEvictEntries() {
+            StorageAccess storage = regionFactory.createQueryResultsRegionStorageAccess(QUERY_RESULTS_REGION, null);
+
+            storage.putIntoCache("key", "value", null);
+            assertThat(storage.getFromCache("key", null)).isEqualTo("value");
+            assertThat(storage.contains("key")).isTrue();
+
+            storage.evictData("key");
+            assertThat(storage.getFromCache("key", null)).isNull();
+        }
+
+        @Test
+        @DisplayName("should bound the entity region")
+        void shouldBoundEntityRegion() {
+            Cache<Object, Object> tasks = regionFactory.regions().get(Task.CACHE_REGION);
+            for (long id = 0; id < 10; id++) {
+                tasks.put(id, "task");
+            }
+            tasks.cleanUp();
+
+            assertThat(tasks.estimatedSize()).isLessThanOrEqualTo(2);
+            assertThat(tasks.stats().evictionCount()).isGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("should reject regions that were not configured")
+        void shouldRejectUnknownRegion() {
+            assertThatThrownBy(() -> regionFactory.createQueryResultsRegionStorageAccess("unknown", null))
+                .isInstanceOf(CacheException.class)
+                .hasMessageContaining("unknown");
+        }
+    }
+
+    @Test
+    @DisplayName("should publish eviction metrics for every region")
+    void shouldPublishRegionMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MeterBinder metrics = new SecondLevelCacheConfig().secondLevelCacheMetrics(regionFactory);
+
+        metrics.bindTo(registry);
+
+        assertThat(registry.find("cache.evictions").tag("cache.manager", "hibernate").functionCounters())
+            .extracting(counter -> counter.getId().getTag("cache"))
+            .containsExactlyInAnyOrder(Task.CACHE_REGION, QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION);
+    }
+}
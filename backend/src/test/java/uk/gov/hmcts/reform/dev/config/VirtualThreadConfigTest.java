@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadConfig Tests")
+class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(VirtualThreadConfig.class);
+
+    @Test
+    @DisplayName("should record pinning metrics when virtual threads are enabled")
+    void shouldRegisterPinningMetricsWhenEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+            .run(context -> assertThat(context).hasSingleBean(VirtualThreadMetrics.class));
+    }
+
+    @Test
+    @DisplayName("should stay off by default")
+    void shouldNotRegisterPinningMetricsByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(VirtualThreadMetrics.class));
+    }
+}
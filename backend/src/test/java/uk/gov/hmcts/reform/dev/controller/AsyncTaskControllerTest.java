@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.dev.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.dto.AsyncTaskStatus;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.TaskQueueFullException;
+import uk.gov.hmcts.reform.dev.replica.PrimaryReads;
+import uk.gov.hmcts.reform.dev.service.AsyncTaskIngestor;
+import uk.gov.hmcts.reform.dev.service.PendingTask;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@WebMvcTest(value = {AsyncTaskController.class, GlobalExceptionHandler.class},
+    properties = "tasks.async-create.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("AsyncTaskController Tests")
+class AsyncTaskControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private AsyncTaskIngestor asyncTaskIngestor;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    private String body(TaskRequest request) throws Exception {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    @Test
+    @DisplayName("should accept a valid task with its id and status location")
+    void shouldAcceptTask() throws Exception {
+        TaskRequest request = TaskRequest.builder().title("Queued").status(TODO).build();
+        when(asyncTaskIngestor.accept(request)).thenReturn(new PendingTask(7L, request, LocalDateTime.now()));
+
+        mockMvc.perform(post("/api/tasks/create-task-async").contentType(APPLICATION_JSON).content(body(request)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", endsWith("/api/tasks/7/create-status")))
+            .andExpect(jsonPath("$.id").value(7))
+            .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("should validate the task before accepting it")
+    void shouldRejectInvalidTask() throws Exception {
+        TaskRequest request = TaskRequest.builder().title("").status(TODO).build();
+
+        mockMvc.perform(post("/api/tasks/create-task-async").contentType(APPLICATION_JSON).content(body(request)))
+            .andExpect(status().isBadRequest());
+
+        verify(asyncTaskIngestor, never()).accept(any());
+    }
+
+    @Test
+    @DisplayName("should return 429 when the queue is full")
+    void shouldReturnTooManyRequestsWhenFull() throws Exception {
+        TaskRequest request = TaskRequest.builder().title("Queued").status(TODO).build();
+        when(asyncTaskIngestor.accept(request)).thenThrow(new TaskQueueFullException("Too many tasks"));
+
+        mockMvc.perform(post("/api/tasks/create-task-async").contentType(APPLICATION_JSON).content(body(request)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("should report a task that is still pending")
+    void shouldReportPendingTask() throws Exception {
+        when(asyncTaskIngestor.status(7L)).thenReturn(AsyncTaskStatus.pending(7L));
+
+        mockMvc.perform(get("/api/tasks/7/create-status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("PENDING"));
+
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    @DisplayName("should report a written task as created")
+    void shouldReportCreatedTask() throws Exception {
+        when(taskService.getTaskById(7L)).thenReturn(TaskResponse.builder().id(7L).title("Queued").build());
+
+        mockMvc.perform(get("/api/tasks/7/create-status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("CREATED"))
+            .andExpect(jsonPath("$.task.title").value("Queued"));
+    }
+
+    @Test
+    @DisplayName("should look up a written task on the primary database")
+    void shouldReadCreatedTaskFromPrimary() throws Exception {
+        AtomicBoolean readFromPrimary = new AtomicBoolean();
+        when(taskService.getTaskById(7L)).thenAnswer(invocation -> {
+            readFromPrimary.set(PrimaryReads.isRequired());
+            return TaskResponse.builder().id(7L).title("Queued").build();
+        });
+
+        mockMvc.perform(get("/api/tasks/7/create-status"))
+            .andExpect(status().isOk());
+
+        assertThat(readFromPrimary).isTrue();
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should return not found for an unknown task")
+    void shouldReturnNotFoundForUnknownTask() throws Exception {
+        when(taskService.getTaskById(7L)).thenThrow(new TaskNotFoundException("Task not found with id: 7"));
+
+        mockMvc.perform(get("/api/tasks/7/create-status"))
+            .andExpect(status().isNotFound());
+    }
+}
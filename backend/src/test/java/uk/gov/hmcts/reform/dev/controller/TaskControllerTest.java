@@ -4,31 +4,58 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResponse;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResult;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskExportFormat;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskSortKey;
 import uk.gov.hmcts.reform.dev.dto.TaskRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exception.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.service.TaskChangeFeed;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.LocalDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.CANCELLED;
 import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
@@ -49,6 +76,9 @@ class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskChangeFeed taskChangeFeed;
+
     @Nested
     @DisplayName("Create Task")
     class CreateTask {
@@ -107,6 +137,44 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Create Tasks In Bulk")
+    class CreateTasksInBulk {
+
+        @Test
+        @DisplayName("should return per-task outcomes")
+        void shouldReturnPerTaskOutcomes() throws Exception {
+            List<TaskRequest> requests = List.of(
+                TaskRequest.builder().title("Task 1").status(TODO).build(),
+                TaskRequest.builder().title("").status(TODO).build()
+            );
+
+            BulkCreateTaskResponse response = BulkCreateTaskResponse.builder()
+                .created(1)
+                .rejected(1)
+                .results(List.of(
+                    BulkCreateTaskResult.created(0, TaskResponse.builder().id(1L).title("Task 1").status(TODO).build()),
+                    BulkCreateTaskResult.rejected(1, Map.of("title", "The task title is required."))
+                ))
+                .build();
+
+            when(taskService.createTasks(anyList())).thenReturn(response);
+
+            mockMvc.perform(post("/api/tasks/bulk-create-tasks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].task.id").value(1L))
+                .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].errors.title").value("The task title is required."));
+
+            verify(taskService).createTasks(anyList());
+        }
+    }
+
     @Nested
     @DisplayName("Get Tasks")
     class GetTasks {
@@ -180,6 +248,356 @@ class TaskControllerTest {
 
             verify(taskService).getAllTasks();
         }
+
+        @Test
+        @DisplayName("should return page of tasks with next link")
+        void shouldReturnPageOfTasksWithNextLink() throws Exception {
+            TaskPageResponse page = TaskPageResponse.builder()
+                .tasks(List.of(TaskResponse.builder()
+                    .id(1L)
+                    .title("Task 1")
+                    .status(TODO)
+                    .createdAt(now())
+                    .updatedAt(now())
+                    .build()))
+                .nextPageToken("next-token")
+                .build();
+
+            when(taskService.getTasks(null, 1)).thenReturn(page);
+
+            mockMvc.perform(get("/api/tasks/get-tasks").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value(1L))
+                .andExpect(jsonPath("$.nextPageToken").value("next-token"))
+                .andExpect(jsonPath("$.next")
+                    .value("http://localhost/api/tasks/get-tasks?size=1&pageToken=next-token"));
+
+            verify(taskService).getTasks(null, 1);
+        }
+
+        @Test
+        @DisplayName("should omit next link on last page")
+        void shouldOmitNextLinkOnLastPage() throws Exception {
+            TaskPageResponse page = TaskPageResponse.builder()
+                .tasks(List.of())
+                .build();
+
+            when(taskService.getTasks("token", 50)).thenReturn(page);
+
+            mockMvc.perform(get("/api/tasks/get-tasks").param("pageToken", "token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(0))
+                .andExpect(jsonPath("$.next").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should bind query filters and sort")
+        void shouldBindQueryFiltersAndSort() throws Exception {
+            when(taskService.queryTasks(any(TaskQueryRequest.class)))
+                .thenReturn(TaskPageResponse.builder().tasks(List.of()).build());
+
+            mockMvc.perform(get("/api/tasks/query-tasks")
+                .param("status", "TODO,IN_PROGRESS")
+                .param("dueFrom", "2024-12-01T00:00:00")
+                .param("dueTo", "2024-12-31T00:00:00")
+                .param("overdue", "true")
+                .param("sort", "DUE_DATE_TIME")
+                .param("direction", "DESC")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(0));
+
+            ArgumentCaptor<TaskQueryRequest> captor = ArgumentCaptor.forClass(TaskQueryRequest.class);
+            verify(taskService).queryTasks(captor.capture());
+            TaskQueryRequest query = captor.getValue();
+            assertThat(query.getStatus()).containsExactly(TODO, IN_PROGRESS);
+            assertThat(query.getDueFrom()).isEqualTo(LocalDateTime.parse("2024-12-01T00:00:00"));
+            assertThat(query.getDueTo()).isEqualTo(LocalDateTime.parse("2024-12-31T00:00:00"));
+            assertThat(query.isOverdue()).isTrue();
+            assertThat(query.getSort()).isEqualTo(TaskSortKey.DUE_DATE_TIME);
+            assertThat(query.getDirection()).isEqualTo(Sort.Direction.DESC);
+            assertThat(query.getSize()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("should return bad request for unknown sort key")
+        void shouldReturnBadRequestForUnknownSortKey() throws Exception {
+            mockMvc.perform(get("/api/tasks/query-tasks").param("sort", "TITLE"))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return bad request when page token is invalid")
+        void shouldReturnBadRequestWhenPageTokenIsInvalid() throws Exception {
+            when(taskService.getTasks("bad", 50))
+                .thenThrow(new IllegalArgumentException("Invalid page token: bad"));
+
+            mockMvc.perform(get("/api/tasks/get-tasks").param("pageToken", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Invalid page token: bad"));
+        }
+
+        @Test
+        @DisplayName("should return search results with next link keeping the query")
+        void shouldReturnSearchResultsWithNextLink() throws Exception {
+            TaskPageResponse page = TaskPageResponse.builder()
+                .tasks(List.of(TaskResponse.builder()
+                    .id(1L)
+                    .title("Court bundle")
+                    .status(TODO)
+                    .createdAt(now())
+                    .updatedAt(now())
+                    .build()))
+                .nextPageToken("next-token")
+                .build();
+
+            when(taskService.searchTasks("court", null, 1)).thenReturn(page);
+
+            mockMvc.perform(get("/api/tasks/search-tasks").param("q", "court").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value("Court bundle"))
+                .andExpect(jsonPath("$.next")
+                    .value("http://localhost/api/tasks/search-tasks?q=court&size=1&pageToken=next-token"));
+        }
+
+        @Test
+        @DisplayName("should return bad request when search query is missing")
+        void shouldReturnBadRequestWhenSearchQueryIsMissing() throws Exception {
+            mockMvc.perform(get("/api/tasks/search-tasks"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Required parameter 'q' is missing"));
+        }
+
+        @Test
+        @DisplayName("should return bad request when search query is too short")
+        void shouldReturnBadRequestWhenSearchQueryIsTooShort() throws Exception {
+            when(taskService.searchTasks("ab", null, 50))
+                .thenThrow(new IllegalArgumentException("Search query must be between 3 and 200 characters"));
+
+            mockMvc.perform(get("/api/tasks/search-tasks").param("q", "ab"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Search query must be between 3 and 200 characters"));
+        }
+
+        @Test
+        @DisplayName("should return task changes with version and next link")
+        void shouldReturnTaskChanges() throws Exception {
+            TaskChangesResponse changes = TaskChangesResponse.builder()
+                .tasks(List.of(TaskResponse.builder()
+                    .id(1L)
+                    .title("Court bundle")
+                    .status(IN_PROGRESS)
+                    .createdAt(now())
+                    .updatedAt(now())
+                    .build()))
+                .deletedIds(List.of(2L))
+                .version(900L)
+                .nextPageToken("next-token")
+                .build();
+
+            when(taskService.getTaskChanges(500L, null, 50)).thenReturn(changes);
+
+            mockMvc.perform(get("/api/tasks/get-task-changes").param("since", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.deletedIds[0]").value(2))
+                .andExpect(jsonPath("$.version").value(900))
+                .andExpect(jsonPath("$.next")
+                    .value("http://localhost/api/tasks/get-task-changes?since=500&pageToken=next-token"));
+        }
+
+        @Test
+        @DisplayName("should sync from version zero by default")
+        void shouldSyncFromZeroByDefault() throws Exception {
+            when(taskService.getTaskChanges(0L, null, 50)).thenReturn(TaskChangesResponse.builder()
+                .tasks(List.of())
+                .deletedIds(List.of())
+                .version(900L)
+                .build());
+
+            mockMvc.perform(get("/api/tasks/get-task-changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(900))
+                .andExpect(jsonPath("$.next").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional Requests")
+    class ConditionalRequests {
+
+        private final TaskResponse task = TaskResponse.builder()
+            .id(1L)
+            .title("Test Task")
+            .status(TODO)
+            .createdAt(LocalDateTime.of(2024, 12, 31, 17, 0))
+            .updatedAt(LocalDateTime.of(2024, 12, 31, 17, 30))
+            .version(2L)
+            .build();
+
+        @Test
+        @DisplayName("should return a strong ETag with the task")
+        void shouldReturnETagWithTask() throws Exception {
+            when(taskService.getTaskById(1L)).thenReturn(task);
+
+            mockMvc.perform(get("/api/tasks/1/get-task"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", TaskETags.of(task)));
+        }
+
+        @Test
+        @DisplayName("should return not modified without a body when the task ETag matches")
+        void shouldReturnNotModifiedForMatchingTaskETag() throws Exception {
+            when(taskService.getTaskById(1L)).thenReturn(task);
+
+            mockMvc.perform(get("/api/tasks/1/get-task").header("If-None-Match", TaskETags.of(task)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", TaskETags.of(task)))
+                .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("should return the task when the ETag is stale")
+        void shouldReturnTaskForStaleETag() throws Exception {
+            when(taskService.getTaskById(1L)).thenReturn(task);
+
+            mockMvc.perform(get("/api/tasks/1/get-task").header("If-None-Match", "\"1-stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Test Task"));
+        }
+
+        @Test
+        @DisplayName("should return not modified when the task list ETag matches")
+        void shouldReturnNotModifiedForMatchingListETag() throws Exception {
+            when(taskService.getAllTasks()).thenReturn(List.of(task));
+
+            mockMvc.perform(get("/api/tasks/get-all-tasks").header("If-None-Match", TaskETags.of(List.of(task))))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("should pass the If-Match version to the update and return the new ETag")
+        void shouldUpdateWithIfMatchVersion() throws Exception {
+            TaskRequest request = TaskRequest.builder().title("Updated").status(TODO).build();
+            TaskResponse updated = TaskResponse.builder().id(1L).title("Updated").status(TODO).version(3L).build();
+            when(taskService.updateTask(eq(1L), any(TaskRequest.class), eq(2L))).thenReturn(updated);
+
+            mockMvc.perform(put("/api/tasks/1/update-task")
+                    .header("If-Match", TaskETags.of(task))
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+        }
+
+        @Test
+        @DisplayName("should return precondition failed when the task has changed")
+        void shouldReturnPreconditionFailedOnConflict() throws Exception {
+            when(taskService.updateTaskStatus(1L, COMPLETED, 2L))
+                .thenThrow(new TaskVersionConflictException("Task 1 has changed since version 2"));
+
+            mockMvc.perform(patch("/api/tasks/1/status")
+                    .param("status", "COMPLETED")
+                    .header("If-Match", TaskETags.of(task)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.title").value("Precondition Failed"))
+                .andExpect(jsonPath("$.detail").value("Task 1 has changed since version 2"));
+        }
+
+        @Test
+        @DisplayName("should return precondition failed for a weak If-Match tag without updating")
+        void shouldRejectWeakIfMatch() throws Exception {
+            mockMvc.perform(patch("/api/tasks/1/status")
+                    .param("status", "COMPLETED")
+                    .header("If-Match", "W/\"2\""))
+                .andExpect(status().isPreconditionFailed());
+
+            verify(taskService, never()).updateTaskStatus(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Tasks")
+    class ExportTasks {
+
+        @Test
+        @DisplayName("should stream NDJSON export by default")
+        void shouldStreamNdjsonExportByDefault() throws Exception {
+            doAnswer(invocation -> {
+                OutputStream output = invocation.getArgument(1);
+                output.write("{\"id\":1}\n".getBytes(UTF_8));
+                return 1L;
+            }).when(taskService).exportTasks(eq(TaskExportFormat.NDJSON), any(OutputStream.class));
+
+            MvcResult result = mockMvc.perform(get("/api/tasks/export-tasks"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+        }
+
+        @Test
+        @DisplayName("should stream CSV export when requested")
+        void shouldStreamCsvExportWhenRequested() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/tasks/export-tasks").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"));
+
+            verify(taskService).exportTasks(eq(TaskExportFormat.CSV), any(OutputStream.class));
+        }
+
+        @Test
+        @DisplayName("should return bad request for unknown format")
+        void shouldReturnBadRequestForUnknownFormat() throws Exception {
+            mockMvc.perform(get("/api/tasks/export-tasks").param("format", "XML"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream Task Changes")
+    class StreamTaskChanges {
+
+        @Test
+        @DisplayName("should open an event stream resuming from the Last-Event-ID header")
+        void shouldResumeFromLastEventIdHeader() throws Exception {
+            SseEmitter emitter = new SseEmitter();
+            when(taskChangeFeed.subscribe("feed:7")).thenReturn(emitter);
+
+            MvcResult result = mockMvc.perform(get("/api/tasks/changes")
+                    .header("Last-Event-ID", "feed:7")
+                    .param("lastEventId", "feed:3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            emitter.send(SseEmitter.event().id("feed:8").data("{\"type\":\"CREATED\"}"));
+            emitter.complete();
+
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("id:feed:8\ndata:{\"type\":\"CREATED\"}\n\n"));
+        }
+
+        @Test
+        @DisplayName("should fall back to the lastEventId parameter")
+        void shouldFallBackToLastEventIdParameter() throws Exception {
+            when(taskChangeFeed.subscribe("feed:3")).thenReturn(new SseEmitter());
+
+            mockMvc.perform(get("/api/tasks/changes").param("lastEventId", "feed:3"))
+                .andExpect(request().asyncStarted());
+
+            verify(taskChangeFeed).subscribe("feed:3");
+        }
     }
 
     @Nested
@@ -197,7 +615,7 @@ class TaskControllerTest {
                 .updatedAt(now())
                 .build();
 
-            when(taskService.updateTaskStatus(1L, COMPLETED)).thenReturn(response);
+            when(taskService.updateTaskStatus(1L, COMPLETED, null)).thenReturn(response);
 
             String result = mockMvc.perform(patch("/api/tasks/1/status")
                 .param("status", "COMPLETED"))
@@ -212,7 +630,37 @@ class TaskControllerTest {
             assertThat(actualResponse.getId()).isEqualTo(1L);
             assertThat(actualResponse.getStatus()).isEqualTo(COMPLETED);
 
-            verify(taskService).updateTaskStatus(1L, COMPLETED);
+            verify(taskService).updateTaskStatus(1L, COMPLETED, null);
+        }
+
+        @Test
+        @DisplayName("should update task statuses in bulk")
+        void shouldUpdateTaskStatusesInBulk() throws Exception {
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .ids(List.of(1L, 2L))
+                .status(COMPLETED)
+                .build();
+
+            when(taskService.updateTaskStatuses(any(BulkStatusUpdateRequest.class)))
+                .thenReturn(BulkStatusUpdateResponse.builder().updated(1).missingIds(List.of(2L)).build());
+
+            mockMvc.perform(patch("/api/tasks/bulk-update-status")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(2L));
+
+            verify(taskService).updateTaskStatuses(any(BulkStatusUpdateRequest.class));
+        }
+
+        @Test
+        @DisplayName("should return bad request when bulk status is missing")
+        void shouldReturnBadRequestWhenBulkStatusIsMissing() throws Exception {
+            mockMvc.perform(patch("/api/tasks/bulk-update-status")
+                .contentType(APPLICATION_JSON)
+                .content("{\"ids\":[1]}"))
+                .andExpect(status().isBadRequest());
         }
 
         @Test
@@ -233,7 +681,7 @@ class TaskControllerTest {
                 .updatedAt(now())
                 .build();
 
-            when(taskService.updateTask(eq(1L), any(TaskRequest.class))).thenReturn(response);
+            when(taskService.updateTask(eq(1L), any(TaskRequest.class), isNull())).thenReturn(response);
 
             String result = mockMvc.perform(put("/api/tasks/1/update-task")
                 .contentType(APPLICATION_JSON)
@@ -249,7 +697,7 @@ class TaskControllerTest {
             assertThat(actualResponse.getId()).isEqualTo(1L);
             assertThat(actualResponse.getTitle()).isEqualTo("Updated Task");
 
-            verify(taskService).updateTask(eq(1L), any(TaskRequest.class));
+            verify(taskService).updateTask(eq(1L), any(TaskRequest.class), isNull());
         }
 
         @Test
@@ -279,6 +727,25 @@ class TaskControllerTest {
 
             verify(taskService).deleteTask(1L);
         }
+
+        @Test
+        @DisplayName("should purge closed tasks and return deleted count")
+        void shouldPurgeClosedTasks() throws Exception {
+            when(taskService.purgeClosedTasks(LocalDateTime.parse("2024-01-01T00:00:00"))).thenReturn(42L);
+
+            mockMvc.perform(delete("/api/tasks/purge-closed-tasks")
+                .param("olderThan", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(42));
+        }
+
+        @Test
+        @DisplayName("should return bad request when purge cutoff is missing")
+        void shouldReturnBadRequestWhenPurgeCutoffMissing() throws Exception {
+            mockMvc.perform(delete("/api/tasks/purge-closed-tasks"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Missing Parameter"));
+        }
     }
 
     @Nested
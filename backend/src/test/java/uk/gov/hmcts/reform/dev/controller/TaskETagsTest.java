@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.TaskVersionConflictException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@DisplayName("TaskETags Tests")
+class TaskETagsTest {
+
+    @Nested
+    @DisplayName("Tags")
+    class Tags {
+
+        @Test
+        @DisplayName("should produce a quoted strong tag that changes when the task is updated")
+        void shouldChangeWhenTaskIsUpdated() {
+            String before = TaskETags.of(task(1L, 3L));
+            String after = TaskETags.of(task(1L, 4L));
+
+            assertThat(before).isEqualTo("\"3\"").doesNotStartWith("W/");
+            assertThat(after).isNotEqualTo(before);
+            assertThat(TaskETags.of(task(1L, 3L))).isEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("should change the list tag when a task is updated, removed or reordered")
+        void shouldChangeListTag() {
+            TaskResponse first = task(1L, 0L);
+            TaskResponse second = task(2L, 0L);
+            String tag = TaskETags.of(List.of(first, second));
+
+            assertThat(TaskETags.of(List.of(first, second))).isEqualTo(tag);
+            assertThat(TaskETags.of(List.of(first, task(2L, 1L)))).isNotEqualTo(tag);
+            assertThat(TaskETags.of(List.of(first))).isNotEqualTo(tag);
+            assertThat(TaskETags.of(List.of(second, first))).isNotEqualTo(tag);
+        }
+    }
+
+    @Nested
+    @DisplayName("If-Match")
+    class IfMatch {
+
+        @Test
+        @DisplayName("should read the version from the task tag")
+        void shouldReadVersionFromTag() {
+            assertThat(TaskETags.expectedVersion(TaskETags.of(task(1L, 7L)))).isEqualTo(7L);
+            assertThat(TaskETags.expectedVersion(" \"7\" ")).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("should treat a missing header or wildcard as unconditional")
+        void shouldTreatMissingOrWildcardAsUnconditional() {
+            assertThat(TaskETags.expectedVersion(null)).isNull();
+            assertThat(TaskETags.expectedVersion("")).isNull();
+            assertThat(TaskETags.expectedVersion("*")).isNull();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"W/\"7\"", "7", "\"\"", "\"1-abc\""})
+        @DisplayName("should reject tags that can never strongly match a version")
+        void shouldRejectUnmatchableTags(String ifMatch) {
+            assertThatThrownBy(() -> TaskETags.expectedVersion(ifMatch))
+                .isInstanceOf(TaskVersionConflictException.class);
+        }
+    }
+
+    private static TaskResponse task(Long id, Long version) {
+        return TaskResponse.builder()
+            .id(id)
+            .title("Task " + id)
+            .status(TODO)
+            .version(version)
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.dev.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.service.ReactiveTaskService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@WebMvcTest({TaskStreamController.class, GlobalExceptionHandler.class})
+@ActiveProfiles("test")
+@DisplayName("TaskStreamController Tests")
+class TaskStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveTaskService reactiveTaskService;
+
+    @Test
+    @DisplayName("should return task by id")
+    void shouldReturnTaskById() throws Exception {
+        when(reactiveTaskService.getTaskById(1L)).thenReturn(Mono.just(task(1L, "Task 1")));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream/1/get-task"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value("Task 1"));
+    }
+
+    @Test
+    @DisplayName("should return not found when task does not exist")
+    void shouldReturnNotFound() throws Exception {
+        when(reactiveTaskService.getTaskById(99L))
+            .thenReturn(Mono.error(new TaskNotFoundException("Task not found with id: 99")));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream/99/get-task"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.detail").value("Task not found with id: 99"));
+    }
+
+    @Test
+    @DisplayName("should stream tasks as newline delimited JSON")
+    void shouldStreamTasksAsNdjson() throws Exception {
+        when(reactiveTaskService.streamAllTasks()).thenReturn(Flux.just(task(1L, "Task 1"), task(2L, "Task 2")));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream/get-all-tasks").accept(APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body.lines().toList().getFirst()).contains("\"title\":\"Task 1\"");
+    }
+
+    @Test
+    @DisplayName("should stream search results as server-sent events")
+    void shouldStreamSearchResultsAsEvents() throws Exception {
+        when(reactiveTaskService.searchTasks("court", 10)).thenReturn(Flux.just(task(3L, "Court bundle")));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream/search-tasks")
+                .param("q", "court")
+                .param("limit", "10")
+                .accept(TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(TEXT_EVENT_STREAM))
+            .andExpect(content().string(startsWith("data:{\"id\":3,")));
+    }
+
+    @Test
+    @DisplayName("should return bad request for invalid search before streaming")
+    void shouldRejectInvalidSearch() throws Exception {
+        when(reactiveTaskService.searchTasks("ab", 50))
+            .thenThrow(new IllegalArgumentException("Search query must be between 3 and 200 characters"));
+
+        mockMvc.perform(get("/api/tasks/stream/search-tasks").param("q", "ab"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Search query must be between 3 and 200 characters"));
+    }
+
+    private static TaskResponse task(Long id, String title) {
+        return TaskResponse.builder()
+            .id(id)
+            .title(title)
+            .status(TODO)
+            .build();
+    }
+}
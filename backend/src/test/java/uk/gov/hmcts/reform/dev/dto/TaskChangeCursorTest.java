@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskChangeCursor Tests")
+class TaskChangeCursorTest {
+
+    @Test
+    @DisplayName("should round trip through an opaque token")
+    void shouldRoundTripThroughToken() {
+        TaskChangeCursor cursor = new TaskChangeCursor(4_294_967_871L, 4_294_967_800L, 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=");
+        assertThat(TaskChangeCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest(name = "should reject malformed token \"{0}\"")
+    @ValueSource(strings = {"not base64!", "MXwy", "MXx4fDM"})
+    @DisplayName("should reject malformed tokens")
+    void shouldRejectMalformedTokens(String token) {
+        assertThatThrownBy(() -> TaskChangeCursor.decode(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid page token: " + token);
+    }
+}
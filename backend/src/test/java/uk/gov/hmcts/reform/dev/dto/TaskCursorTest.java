@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.gov.hmcts.reform.dev.entity.Task;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@DisplayName("TaskCursor Tests")
+class TaskCursorTest {
+
+    @Test
+    @DisplayName("should round trip through an opaque token")
+    void shouldRoundTripThroughToken() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2024, 12, 31, 17, 0, 45, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("2024", "|", "=");
+        assertThat(TaskCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("should take position from entity")
+    void shouldTakePositionFromEntity() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Task task = Task.builder()
+            .id(7L)
+            .title("Test Task")
+            .status(TODO)
+            .createdAt(createdAt)
+            .build();
+
+        assertThat(TaskCursor.fromEntity(task)).isEqualTo(new TaskCursor(createdAt, 7L));
+    }
+
+    @ParameterizedTest(name = "should reject malformed token \"{0}\"")
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "MjAyNC0xMi0zMVQxNzowMHxhYmM"})
+    @DisplayName("should reject malformed tokens")
+    void shouldRejectMalformedTokens(String token) {
+        assertThatThrownBy(() -> TaskCursor.decode(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid page token: " + token);
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskSearchCursor Tests")
+class TaskSearchCursorTest {
+
+    @Test
+    @DisplayName("should round trip rank exactly through an opaque token")
+    void shouldRoundTripThroughToken() {
+        TaskSearchCursor cursor = new TaskSearchCursor(0.0607927f, 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=");
+        assertThat(TaskSearchCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest(name = "should reject malformed token \"{0}\"")
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "MC41fGFiYw"})
+    @DisplayName("should reject malformed tokens")
+    void shouldRejectMalformedTokens(String token) {
+        assertThatThrownBy(() -> TaskSearchCursor.decode(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid page token: " + token);
+    }
+}
@@ -2,11 +2,15 @@ package uk.gov.hmcts.reform.dev.exception;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
@@ -35,6 +39,35 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getProperties()).containsKey("timestamp");
     }
 
+    @Test
+    @DisplayName("should ask clients to retry when the async create queue is full")
+    void shouldHandleTaskQueueFullException() {
+        TaskQueueFullException ex = new TaskQueueFullException("Too many tasks are waiting to be created");
+
+        ResponseEntity<ProblemDetail> response = handler.handleTaskQueueFullException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        ProblemDetail body = Objects.requireNonNull(response.getBody());
+        assertThat(body.getTitle()).isEqualTo("Too Many Requests");
+        assertThat(body.getDetail()).isEqualTo("Too many tasks are waiting to be created");
+    }
+
+    @Test
+    @DisplayName("should ask clients to retry when no database connection could be had")
+    void shouldHandleDatabaseUnavailableException() {
+        CannotCreateTransactionException ex = new CannotCreateTransactionException(
+            "Could not open JPA EntityManager for transaction");
+
+        ResponseEntity<ProblemDetail> response = handler.handleDatabaseUnavailableException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        ProblemDetail body = Objects.requireNonNull(response.getBody());
+        assertThat(body.getTitle()).isEqualTo("Service Unavailable");
+        assertThat(body.getDetail()).doesNotContain("EntityManager");
+    }
+
     @Test
     @DisplayName("should handle validation exceptions")
     void shouldHandleValidationExceptions() {
@@ -71,6 +104,19 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getDetail()).isEqualTo("Invalid value 'INVALID' for parameter 'status'");
     }
 
+    @Test
+    @DisplayName("should handle missing parameter exceptions")
+    void shouldHandleMissingParameterException() {
+        MissingServletRequestParameterException ex =
+            new MissingServletRequestParameterException("olderThan", "LocalDateTime");
+
+        ProblemDetail response = handler.handleMissingParameterException(ex);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getTitle()).isEqualTo("Missing Parameter");
+        assertThat(response.getDetail()).isEqualTo("Required parameter 'olderThan' is missing");
+    }
+
     @Test
     @DisplayName("should handle illegal argument exceptions")
     void shouldHandleIllegalArgumentException() {
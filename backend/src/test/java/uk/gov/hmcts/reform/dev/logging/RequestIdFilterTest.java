@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestIdFilter Tests")
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private String filter(MockHttpServletRequest request) throws Exception {
+        AtomicReference<String> logged = new AtomicReference<>();
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(RequestIdFilter.MDC_KEY)));
+        assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+        return logged.get();
+    }
+
+    @Test
+    @DisplayName("should log and echo the caller's request id")
+    void shouldUseCallerRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER, "abc-123");
+
+        assertThat(filter(request)).isEqualTo("abc-123");
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo("abc-123");
+    }
+
+    @Test
+    @DisplayName("should generate a request id when the caller's cannot be logged safely")
+    void shouldReplaceUnsafeRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestIdFilter.HEADER, "forged\nline");
+
+        String requestId = filter(request);
+
+        assertThat(requestId).isNotEqualTo("forged\nline").hasSize(36);
+        assertThat(response.getHeader(RequestIdFilter.HEADER)).isEqualTo(requestId);
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestLogSampler Tests")
+class RequestLogSamplerTest {
+
+    private static final String GET_TASK = "/api/tasks/{id}/get-task";
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    private static RequestLogSampler sampler(double sampleRate, Map<String, Double> endpoints) {
+        return new RequestLogSampler(new RequestLogSamplingProperties(sampleRate, endpoints));
+    }
+
+    private static MockHttpServletRequest request(String endpoint) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1/get-task");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, endpoint);
+        return request;
+    }
+
+    @Nested
+    @DisplayName("Sampling")
+    class Sampling {
+
+        @Test
+        @DisplayName("should mark a sampled request in the MDC until it completes")
+        void shouldMarkSampledRequest() {
+            RequestLogSampler sampler = sampler(1, null);
+            MockHttpServletRequest request = request(GET_TASK);
+
+            sampler.preHandle(request, response, new Object());
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isEqualTo("true");
+
+            sampler.afterCompletion(request, response, new Object(), null);
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("should leave the MDC alone for requests that are not sampled")
+        void shouldNotMarkUnsampledRequest() {
+            RequestLogSampler sampler = sampler(0, null);
+
+            sampler.preHandle(request(GET_TASK), response, new Object());
+
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("should use the endpoint rate over the default")
+        void shouldUseEndpointRate() {
+            RequestLogSampler sampler = sampler(1, Map.of(GET_TASK, 0.0));
+
+            sampler.preHandle(request(GET_TASK), response, new Object());
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isNull();
+
+            sampler.preHandle(request("/api/tasks/get-all-tasks"), response, new Object());
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isEqualTo("true");
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Requests")
+    class AsyncRequests {
+
+        @Test
+        @DisplayName("should clear the MDC when the request thread is released and restore it on dispatch")
+        void shouldKeepDecisionAcrossDispatches() {
+            RequestLogSampler sampler = sampler(1, null);
+            MockHttpServletRequest request = request(GET_TASK);
+
+            sampler.preHandle(request, response, new Object());
+            sampler.afterConcurrentHandlingStarted(request, response, new Object());
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isNull();
+
+            sampler.preHandle(request, response, new Object());
+            assertThat(MDC.get(RequestLogSampler.MDC_KEY)).isEqualTo("true");
+        }
+    }
+}
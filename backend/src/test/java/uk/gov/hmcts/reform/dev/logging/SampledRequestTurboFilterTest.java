@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SampledRequestTurboFilter Tests")
+class SampledRequestTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final SampledRequestTurboFilter filter = new SampledRequestTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setLoggers("org.hibernate.SQL, uk.gov.hmcts.reform.dev");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        Logger logger = context.getLogger(loggerName);
+        return filter.decide(null, logger, level, "select 1", null, null);
+    }
+
+    @Test
+    @DisplayName("should accept debug events from configured loggers in sampled requests")
+    void shouldAcceptSampledDebug() {
+        MDC.put(RequestLogSampler.MDC_KEY, "true");
+
+        assertThat(decide("org.hibernate.SQL", Level.DEBUG)).isEqualTo(FilterReply.ACCEPT);
+        assertThat(decide("uk.gov.hmcts.reform.dev.controller.TaskController", Level.DEBUG))
+            .isEqualTo(FilterReply.ACCEPT);
+    }
+
+    @Test
+    @DisplayName("should leave events outside sampled requests to the logger level")
+    void shouldIgnoreUnsampledRequests() {
+        assertThat(decide("org.hibernate.SQL", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("should leave other levels and loggers to the logger level")
+    void shouldIgnoreOtherLevelsAndLoggers() {
+        MDC.put(RequestLogSampler.MDC_KEY, "true");
+
+        assertThat(decide("org.hibernate.SQL", Level.TRACE)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("org.hibernate.SQLQuery", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide("org.springframework.web", Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
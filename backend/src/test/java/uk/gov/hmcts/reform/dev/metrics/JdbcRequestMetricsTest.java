@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcRequestMetrics Tests")
+class JdbcRequestMetricsTest {
+
+    private static final String GET_TASK = "/api/tasks/{id}/get-task";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1/get-task");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, GET_TASK);
+        return request;
+    }
+
+    private static void execute(JdbcRequestMetrics metrics) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo("select * from tasks where id = ?"));
+        metrics.beforeQuery(execInfo, queries);
+        metrics.afterQuery(execInfo, queries);
+    }
+
+    @Nested
+    @DisplayName("Per Request")
+    class PerRequest {
+
+        @Test
+        @DisplayName("should record the statements a request ran against its endpoint")
+        void shouldRecordStatementsPerEndpoint() {
+            JdbcRequestMetrics metrics = new JdbcRequestMetrics(registry, Duration.ofMinutes(1));
+            MockHttpServletRequest request = request();
+
+            metrics.preHandle(request, response, new Object());
+            execute(metrics);
+            execute(metrics);
+            metrics.afterCompletion(request, response, new Object(), null);
+
+            DistributionSummary statements = registry.get(JdbcRequestMetrics.STATEMENTS)
+                .tag("endpoint", GET_TASK).tag("method", "GET").summary();
+            assertThat(statements.count()).isOne();
+            assertThat(statements.totalAmount()).isEqualTo(2);
+            Timer time = registry.get(JdbcRequestMetrics.TIME).tag("endpoint", GET_TASK).timer();
+            assertThat(time.count()).isOne();
+        }
+
+        @Test
+        @DisplayName("should keep counting across the async dispatch of a request")
+        void shouldCountAcrossAsyncDispatch() {
+            JdbcRequestMetrics metrics = new JdbcRequestMetrics(registry, Duration.ofMinutes(1));
+            MockHttpServletRequest request = request();
+
+            metrics.preHandle(request, response, new Object());
+            execute(metrics);
+            metrics.afterConcurrentHandlingStarted(request, response, new Object());
+            execute(metrics);
+            metrics.preHandle(request, response, new Object());
+            execute(metrics);
+            metrics.afterCompletion(request, response, new Object(), null);
+
+            assertThat(registry.get(JdbcRequestMetrics.STATEMENTS).summary().totalAmount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should not charge statements run outside a request")
+        void shouldIgnoreStatementsOutsideRequests() {
+            JdbcRequestMetrics metrics = new JdbcRequestMetrics(registry, Duration.ofMinutes(1));
+
+            execute(metrics);
+
+            assertThat(registry.find(JdbcRequestMetrics.STATEMENTS).summary()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Slow Statements")
+    class SlowStatements {
+
+        @Test
+        @DisplayName("should count statements over the threshold")
+        void shouldCountSlowStatements() {
+            JdbcRequestMetrics metrics = new JdbcRequestMetrics(registry, Duration.ZERO);
+
+            execute(metrics);
+
+            assertThat(registry.get(JdbcRequestMetrics.SLOW_STATEMENTS).counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not count statements under the threshold")
+        void shouldIgnoreFastStatements() {
+            JdbcRequestMetrics metrics = new JdbcRequestMetrics(registry, Duration.ofMinutes(1));
+
+            execute(metrics);
+
+            assertThat(registry.get(JdbcRequestMetrics.SLOW_STATEMENTS).counter().count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileOutboxSink Tests")
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    private Path directory;
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "DELETED", id, "{\"type\":\"DELETED\",\"taskId\":" + id + "}",
+            LocalDateTime.of(2024, 12, 31, 17, 0));
+    }
+
+    @Test
+    @DisplayName("should append one line per message with the payload as JSON")
+    void shouldAppendMessagesAsJsonLines() throws Exception {
+        Path file = directory.resolve("outbox.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+
+        sink.publish(List.of(message(1), message(2)));
+        sink.publish(List.of(message(3)));
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactly(1L, 2L, 3L);
+        assertThat(lines.getFirst().get("payload").get("taskId").asLong()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.entity.OutboxEvent;
+import uk.gov.hmcts.reform.dev.repository.OutboxEventRepository;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RecordingSink sink = new RecordingSink();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(repository, sink, new TransactionTemplate(transactionManager), registry, batchSize);
+    }
+
+    private static OutboxEvent event(long id, LocalDateTime createdAt) {
+        return OutboxEvent.builder()
+            .id(id)
+            .eventType("DELETED")
+            .taskId(id)
+            .payload("{}")
+            .createdAt(createdAt)
+            .build();
+    }
+
+    private static OutboxEvent event(long id) {
+        return event(id, LocalDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("Publishing")
+    class Publishing {
+
+        @Test
+        @DisplayName("should publish and delete batches until one comes back short")
+        void shouldDrainInBatches() {
+            when(repository.lockNextBatch(2)).thenReturn(List.of(event(1), event(2)), List.of(event(3)));
+
+            relay(2).drain();
+
+            assertThat(sink.batches).extracting(batch -> batch.stream().map(OutboxMessage::id).toList())
+                .containsExactly(List.of(1L, 2L), List.of(3L));
+            verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+            verify(repository).deleteAllByIdInBatch(List.of(3L));
+            assertThat(registry.get(OutboxRelay.PUBLISHED).counter().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should roll back and keep the batch when the sink fails")
+        void shouldKeepBatchWhenSinkFails() {
+            when(repository.lockNextBatch(anyInt())).thenReturn(List.of(event(1)));
+            sink.failing = true;
+
+            relay(10).drain();
+
+            verify(repository, never()).deleteAllByIdInBatch(anyList());
+            verify(transactionManager).rollback(any());
+            assertThat(registry.get(OutboxRelay.FAILURES).counter().count()).isOne();
+            assertThat(registry.get(OutboxRelay.PUBLISHED).counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("should do nothing when the outbox is empty")
+        void shouldSkipEmptyOutbox() {
+            when(repository.lockNextBatch(anyInt())).thenReturn(List.of());
+
+            assertThat(relay(10).relayBatch()).isZero();
+
+            assertThat(sink.batches).isEmpty();
+            verify(repository, never()).deleteAllByIdInBatch(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("should record how long each event waited to be published")
+        void shouldRecordLag() {
+            when(repository.lockNextBatch(anyInt()))
+                .thenReturn(List.of(event(1, LocalDateTime.now().minusSeconds(5)), event(2)));
+
+            relay(10).relayBatch();
+
+            Timer lag = registry.get(OutboxRelay.LAG).timer();
+            assertThat(lag.count()).isEqualTo(2);
+            assertThat(lag.max(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should report the age of the oldest pending event until the outbox empties")
+        void shouldReportOldestAge() {
+            when(repository.lockNextBatch(anyInt()))
+                .thenReturn(List.of(event(1, LocalDateTime.now().minusMinutes(1))), List.of());
+            sink.failing = true;
+            OutboxRelay relay = relay(10);
+
+            relay.drain();
+            assertThat(registry.get(OutboxRelay.OLDEST_AGE).gauge().value()).isGreaterThanOrEqualTo(60);
+
+            relay.drain();
+            assertThat(registry.get(OutboxRelay.OLDEST_AGE).gauge().value()).isZero();
+        }
+    }
+
+    private static final class RecordingSink implements OutboxSink {
+
+        private final List<List<OutboxMessage>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) throws IOException {
+            if (failing) {
+                throw new IOException("Sink unavailable");
+            }
+            batches.add(messages);
+        }
+    }
+}
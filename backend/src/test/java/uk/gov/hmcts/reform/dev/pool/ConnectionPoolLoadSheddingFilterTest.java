@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.pool;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionPoolLoadSheddingFilter Tests")
+class ConnectionPoolLoadSheddingFilterTest {
+
+    private final ConnectionPoolMonitor monitor = mock(ConnectionPoolMonitor.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConnectionPoolLoadSheddingFilter filter =
+        new ConnectionPoolLoadSheddingFilter(monitor, objectMapper, registry);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/get-all-tasks");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final MockFilterChain chain = new MockFilterChain();
+
+    @Test
+    @DisplayName("should pass requests through while the pool keeps up")
+    void shouldPassThrough() throws Exception {
+        when(monitor.isSaturated()).thenReturn(false);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(registry.get("tasks.db.pool.shed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("should answer 503 with Retry-After without handling the request while the pool is saturated")
+    void shouldShedWhenSaturated() throws Exception {
+        when(monitor.isSaturated()).thenReturn(true);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertThat(body.get("title").asText()).isEqualTo("Service Unavailable");
+        assertThat(body.get("status").asInt()).isEqualTo(503);
+        assertThat(registry.get("tasks.db.pool.shed").counter().count()).isOne();
+    }
+}
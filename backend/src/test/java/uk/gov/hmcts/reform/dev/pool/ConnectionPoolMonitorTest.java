@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConnectionPoolMonitor Tests")
+class ConnectionPoolMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FixedPoolStats stats = new FixedPoolStats();
+
+    private IMetricsTracker track(ConnectionPoolMonitor monitor) {
+        return monitor.create("primary", stats);
+    }
+
+    private static void acquire(IMetricsTracker tracker, int times, long millis) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+
+    @Test
+    @DisplayName("should publish the standard Hikari pool metrics alongside its own")
+    void shouldPublishPoolMetrics() {
+        IMetricsTracker tracker = track(new ConnectionPoolMonitor(() -> registry, Duration.ofMillis(250)));
+        stats.active = 7;
+        stats.pending = 3;
+
+        acquire(tracker, 1, 100);
+
+        assertThat(registry.get("hikaricp.connections.active").tag("pool", "primary").gauge().value()).isEqualTo(7);
+        assertThat(registry.get("hikaricp.connections.pending").tag("pool", "primary").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("hikaricp.connections.acquire").tag("pool", "primary").timer().count()).isOne();
+        assertThat(registry.get("tasks.db.pool.acquire.recent").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should report saturation while recent waits exceed the budget and requests are queued")
+    void shouldReportSaturation() {
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(() -> registry, Duration.ofMillis(250));
+        IMetricsTracker tracker = track(monitor);
+        stats.pending = 4;
+
+        acquire(tracker, 20, 10);
+        assertThat(monitor.isSaturated()).isFalse();
+
+        acquire(tracker, 20, 1_000);
+        assertThat(monitor.isSaturated()).isTrue();
+        assertThat(registry.get("tasks.db.pool.saturated").gauge().value()).isOne();
+
+        stats.pending = 0;
+        assertThat(monitor.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should recover once quick acquisitions bring the average back under budget")
+    void shouldRecoverAfterQuickAcquisitions() {
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(() -> registry, Duration.ofMillis(250));
+        IMetricsTracker tracker = track(monitor);
+        stats.pending = 1;
+        acquire(tracker, 20, 1_000);
+
+        acquire(tracker, 20, 5);
+
+        assertThat(monitor.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should never report saturation with a zero budget or before the pool starts")
+    void shouldNotReportSaturationWhenOff() {
+        ConnectionPoolMonitor unstarted = new ConnectionPoolMonitor(() -> registry, Duration.ofMillis(250));
+        assertThat(unstarted.isSaturated()).isFalse();
+
+        ConnectionPoolMonitor off = new ConnectionPoolMonitor(() -> registry, Duration.ZERO);
+        IMetricsTracker tracker = off.create("off", stats);
+        stats.pending = 10;
+        acquire(tracker, 20, 10_000);
+
+        assertThat(off.isSaturated()).isFalse();
+    }
+
+    private static final class FixedPoolStats extends PoolStats {
+
+        private int active;
+        private int pending;
+
+        FixedPoolStats() {
+            super(0);
+        }
+
+        @Override
+        protected void update() {
+            activeConnections = active;
+            pendingThreads = pending;
+            maxConnections = 10;
+        }
+    }
+}
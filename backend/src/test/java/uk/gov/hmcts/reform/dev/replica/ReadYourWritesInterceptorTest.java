@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesInterceptor Tests")
+class ReadYourWritesInterceptorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ReadYourWritesInterceptor interceptor =
+        new ReadYourWritesInterceptor(Duration.ofSeconds(10), nanos::get);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private static MockHttpServletRequest request(String method, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tasks/get-all-tasks");
+        if (clientId != null) {
+            request.addHeader(ReadYourWritesInterceptor.CLIENT_ID_HEADER, clientId);
+        }
+        return request;
+    }
+
+    private boolean readsFromPrimary(MockHttpServletRequest request) {
+        interceptor.preHandle(request, response, null);
+        boolean required = PrimaryReads.isRequired();
+        interceptor.afterCompletion(request, response, null, null);
+        return required;
+    }
+
+    @AfterEach
+    void clearPrimaryReads() {
+        PrimaryReads.clear();
+    }
+
+    @Test
+    @DisplayName("should let reads go to replicas for a client that has not written")
+    void shouldAllowReplicaReads() {
+        assertThat(readsFromPrimary(request("GET", "reader"))).isFalse();
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep every transaction in a write request on the primary")
+    void shouldUsePrimaryForWrites() {
+        assertThat(readsFromPrimary(request("PATCH", "writer"))).isTrue();
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep a client's reads on the primary until the window after its write ends")
+    void shouldPinReadsAfterWrite() {
+        readsFromPrimary(request("POST", "writer"));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertThat(readsFromPrimary(request("GET", "writer"))).isTrue();
+        assertThat(readsFromPrimary(request("GET", "reader"))).isFalse();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(readsFromPrimary(request("GET", "writer"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should tell clients without an id apart by address")
+    void shouldFallBackToAddress() {
+        MockHttpServletRequest write = request("DELETE", null);
+        write.setRemoteAddr("10.0.0.1");
+        readsFromPrimary(write);
+
+        MockHttpServletRequest sameAddress = request("GET", null);
+        sameAddress.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest otherAddress = request("GET", null);
+        otherAddress.setRemoteAddr("10.0.0.2");
+
+        assertThat(readsFromPrimary(sameAddress)).isTrue();
+        assertThat(readsFromPrimary(otherAddress)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should tell clients behind the same address apart by id")
+    void shouldSeparateClientsBehindOneAddress() {
+        MockHttpServletRequest write = request("PUT", "first session");
+        write.setRemoteAddr("10.0.0.1");
+        readsFromPrimary(write);
+
+        MockHttpServletRequest sameClient = request("GET", "first session");
+        sameClient.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest otherClient = request("GET", "second session");
+        otherClient.setRemoteAddr("10.0.0.1");
+
+        assertThat(readsFromPrimary(sameClient)).isTrue();
+        assertThat(readsFromPrimary(otherClient)).isFalse();
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.dev.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Connection primaryConnection = mock(Connection.class);
+    private final DataSource primary = dataSource(primaryConnection);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routing(Duration maxLag, DataSource... replicas) {
+        Map<String, DataSource> named = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            named.put("replica-" + (i + 1), replicas[i]);
+        }
+        return new ReplicaRoutingDataSource(primary, named, maxLag, registry);
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return dataSource;
+    }
+
+    private static void reportLag(Connection connection, double seconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(seconds);
+    }
+
+    private double primaryReads(String reason) {
+        return registry.get("tasks.read-replicas.primary-reads").tag("reason", reason).counter().count();
+    }
+
+    @AfterEach
+    void clearPrimaryReads() {
+        PrimaryReads.clear();
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class Routing {
+
+        @Test
+        @DisplayName("should use the primary until a replica has been checked")
+        void shouldUsePrimaryBeforeFirstCheck() throws SQLException {
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), dataSource(firstConnection));
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(primaryReads("unavailable")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should take turns across healthy replicas")
+        void shouldRoundRobinAcrossReplicas() throws SQLException {
+            reportLag(firstConnection, 0);
+            reportLag(secondConnection, 1);
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5),
+                dataSource(firstConnection), dataSource(secondConnection));
+            routing.checkReplicas();
+
+            assertThat(routing.getConnection()).isSameAs(firstConnection);
+            assertThat(routing.getConnection()).isSameAs(secondConnection);
+            assertThat(routing.getConnection()).isSameAs(firstConnection);
+        }
+
+        @Test
+        @DisplayName("should use the primary when the thread's client has just written")
+        void shouldUsePrimaryWhenRequired() throws SQLException {
+            reportLag(firstConnection, 0);
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), dataSource(firstConnection));
+            routing.checkReplicas();
+
+            PrimaryReads.require();
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(primaryReads("pinned")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failover")
+    class Failover {
+
+        @Test
+        @DisplayName("should skip a replica further behind than the maximum lag")
+        void shouldSkipLaggingReplica() throws SQLException {
+            reportLag(firstConnection, 30);
+            reportLag(secondConnection, 1);
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5),
+                dataSource(firstConnection), dataSource(secondConnection));
+            routing.checkReplicas();
+
+            assertThat(routing.getConnection()).isSameAs(secondConnection);
+            assertThat(routing.getConnection()).isSameAs(secondConnection);
+            assertThat(registry.get("tasks.read-replicas.usable").tag("replica", "replica-1").gauge().value())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("should fall back to the primary when every replica is too far behind")
+        void shouldFallBackWhenAllReplicasLag() throws SQLException {
+            reportLag(firstConnection, 30);
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), dataSource(firstConnection));
+            routing.checkReplicas();
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(registry.get("tasks.read-replicas.lag").tag("replica", "replica-1").gauge().value())
+                .isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("should take out a replica that fails to connect and try the next")
+        void shouldFailOverOnConnectionError() throws SQLException {
+            reportLag(firstConnection, 0);
+            reportLag(secondConnection, 0);
+            DataSource failing = mock(DataSource.class);
+            when(failing.getConnection()).thenReturn(firstConnection).thenThrow(new SQLException("refused"));
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), failing, dataSource(secondConnection));
+            routing.checkReplicas();
+
+            assertThat(routing.getConnection()).isSameAs(secondConnection);
+            assertThat(routing.getConnection()).isSameAs(secondConnection);
+            assertThat(registry.get("tasks.read-replicas.usable").tag("replica", "replica-1").gauge().value())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("should bring a replica back once a check finds it healthy")
+        void shouldRestoreRecoveredReplica() throws SQLException {
+            reportLag(firstConnection, 0);
+            DataSource flaky = mock(DataSource.class);
+            when(flaky.getConnection()).thenThrow(new SQLException("refused")).thenReturn(firstConnection);
+            ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), flaky);
+
+            routing.checkReplicas();
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+            routing.checkReplicas();
+            assertThat(routing.getConnection()).isSameAs(firstConnection);
+        }
+    }
+}
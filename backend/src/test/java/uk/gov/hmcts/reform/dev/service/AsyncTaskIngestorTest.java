@@ -0,0 +1,180 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import uk.gov.hmcts.reform.dev.dto.AsyncTaskStatus.State;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+import uk.gov.hmcts.reform.dev.exception.TaskQueueFullException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@DisplayName("AsyncTaskIngestor Tests")
+class AsyncTaskIngestorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TaskIdAllocator taskIdAllocator = mock(TaskIdAllocator.class);
+    private final TaskBatchWriter taskBatchWriter = mock(TaskBatchWriter.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong ids = new AtomicLong();
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        when(taskIdAllocator.nextId()).thenAnswer(invocation -> ids.incrementAndGet());
+    }
+
+    private AsyncTaskIngestor ingestor(int queueCapacity) {
+        TaskIngestionJournal journal = new TaskIngestionJournal(directory.resolve("journal"), objectMapper);
+        return new AsyncTaskIngestor(taskIdAllocator, taskBatchWriter, journal, registry, queueCapacity, 10);
+    }
+
+    private static TaskRequest request(String title) {
+        return TaskRequest.builder().title(title).status(TODO).build();
+    }
+
+    @Nested
+    @DisplayName("Accepting")
+    class Accepting {
+
+        @Test
+        @DisplayName("should give each accepted task an id and report it as pending")
+        void shouldAcceptTasks() {
+            AsyncTaskIngestor ingestor = ingestor(10);
+
+            PendingTask first = ingestor.accept(request("First"));
+            PendingTask second = ingestor.accept(request("Second"));
+
+            assertThat(first.id()).isEqualTo(1);
+            assertThat(second.id()).isEqualTo(2);
+            assertThat(ingestor.status(1L).getState()).isEqualTo(State.PENDING);
+            assertThat(registry.get(AsyncTaskIngestor.PENDING).gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should refuse tasks once the queue is full")
+        void shouldRefuseWhenFull() {
+            AsyncTaskIngestor ingestor = ingestor(1);
+            ingestor.accept(request("First"));
+
+            assertThatThrownBy(() -> ingestor.accept(request("Second"))).isInstanceOf(TaskQueueFullException.class);
+            assertThat(registry.get(AsyncTaskIngestor.REJECTED).counter().count()).isOne();
+        }
+
+        @Test
+        @DisplayName("should accept tasks again once written ones free the queue")
+        void shouldAcceptAfterWrite() throws Exception {
+            AsyncTaskIngestor ingestor = ingestor(1);
+            ingestor.accept(request("First"));
+
+            assertThat(ingestor.writeBatch(ingestor.nextBatch(0))).isTrue();
+
+            assertThat(ingestor.accept(request("Second")).id()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing")
+    class Writing {
+
+        @Test
+        @DisplayName("should write queued tasks in one batch and stop reporting them")
+        void shouldWriteQueuedTasks() throws Exception {
+            AsyncTaskIngestor ingestor = ingestor(10);
+            ingestor.accept(request("First"));
+            ingestor.accept(request("Second"));
+
+            assertThat(ingestor.writeBatch(ingestor.nextBatch(0))).isTrue();
+
+            verify(taskBatchWriter).insert(argThat(batch -> batch.size() == 2));
+            assertThat(ingestor.status(1L)).isNull();
+            assertThat(ingestor.status(2L)).isNull();
+        }
+
+        @Test
+        @DisplayName("should keep tasks pending when the database is unavailable")
+        void shouldRetryWhenDatabaseUnavailable() throws Exception {
+            when(taskBatchWriter.insert(anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+            AsyncTaskIngestor ingestor = ingestor(10);
+            ingestor.accept(request("First"));
+
+            assertThat(ingestor.writeBatch(ingestor.nextBatch(0))).isFalse();
+
+            assertThat(ingestor.status(1L).getState()).isEqualTo(State.PENDING);
+        }
+
+        @Test
+        @DisplayName("should fail only the task the database rejects")
+        void shouldIsolateRejectedTask() throws Exception {
+            when(taskBatchWriter.insert(anyList())).thenAnswer(invocation -> {
+                List<PendingTask> batch = invocation.getArgument(0);
+                if (batch.stream().anyMatch(task -> task.request().getTitle().equals("Bad"))) {
+                    throw new DataIntegrityViolationException("value too long");
+                }
+                return batch.stream().map(PendingTask::id).toList();
+            });
+            AsyncTaskIngestor ingestor = ingestor(10);
+            ingestor.accept(request("Good"));
+            ingestor.accept(request("Bad"));
+
+            assertThat(ingestor.writeBatch(ingestor.nextBatch(0))).isTrue();
+
+            assertThat(ingestor.status(1L)).isNull();
+            assertThat(ingestor.status(2L).getState()).isEqualTo(State.FAILED);
+            assertThat(registry.get(AsyncTaskIngestor.FAILED).counter().count()).isOne();
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("should queue tasks accepted but not written before a restart")
+        void shouldRecoverUnwrittenTasks() throws Exception {
+            AsyncTaskIngestor before = ingestor(10);
+            before.accept(request("Written"));
+            before.writeBatch(before.nextBatch(0));
+            before.accept(request("Unwritten"));
+            before.shutdown();
+
+            AsyncTaskIngestor after = ingestor(10);
+
+            assertThat(after.status(2L).getState()).isEqualTo(State.PENDING);
+            assertThat(after.nextBatch(0)).extracting(PendingTask::id).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("should count recovered tasks against the queue capacity")
+        void shouldCountRecoveredTasks() throws Exception {
+            AsyncTaskIngestor before = ingestor(10);
+            before.accept(request("First"));
+            before.accept(request("Second"));
+            before.shutdown();
+
+            AsyncTaskIngestor after = ingestor(1);
+
+            assertThatThrownBy(() -> after.accept(request("Third"))).isInstanceOf(TaskQueueFullException.class);
+        }
+    }
+}
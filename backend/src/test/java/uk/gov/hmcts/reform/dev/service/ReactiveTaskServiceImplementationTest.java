@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.entity.Task;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.repository.TaskReactiveRepository;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveTaskServiceImplementation Tests")
+class ReactiveTaskServiceImplementationTest {
+
+    @Mock
+    private TaskReactiveRepository taskReactiveRepository;
+
+    @InjectMocks
+    private ReactiveTaskServiceImplementation reactiveTaskService;
+
+    @Test
+    @DisplayName("should map task found by id")
+    void shouldMapTaskFoundById() {
+        when(taskReactiveRepository.findById(1L)).thenReturn(Mono.just(task(1L)));
+
+        StepVerifier.create(reactiveTaskService.getTaskById(1L))
+            .expectNextMatches(response -> response.getId() == 1L && "Task 1".equals(response.getTitle()))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should signal not found for a missing task")
+    void shouldSignalNotFound() {
+        when(taskReactiveRepository.findById(99L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(reactiveTaskService.getTaskById(99L))
+            .expectErrorMatches(error -> error instanceof TaskNotFoundException
+                && "Task not found with id: 99".equals(error.getMessage()))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("should stream tasks only as fast as they are requested")
+    void shouldHonourBackpressure() {
+        when(taskReactiveRepository.findAllOrderByCreatedAt()).thenReturn(Flux.just(task(1L), task(2L), task(3L)));
+
+        StepVerifier.create(reactiveTaskService.streamAllTasks(), 1)
+            .expectNextMatches(response -> response.getId() == 1L)
+            .expectNoEvent(Duration.ofMillis(50))
+            .thenRequest(2)
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should search with trimmed terms and an escaped substring pattern")
+    void shouldSearchWithEscapedPattern() {
+        when(taskReactiveRepository.search("50%", "%50\\%%", 10)).thenReturn(Flux.just(task(5L)));
+
+        StepVerifier.create(reactiveTaskService.searchTasks(" 50% ", 10).map(TaskResponse::getId))
+            .expectNext(5L)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should reject invalid search before querying")
+    void shouldRejectInvalidSearch() {
+        assertThatThrownBy(() -> reactiveTaskService.searchTasks("ab", 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Search query must be between 3 and 200 characters");
+        assertThatThrownBy(() -> reactiveTaskService.searchTasks("court", 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Search limit must be between 1 and 1000");
+        verify(taskReactiveRepository, never()).search(anyString(), anyString(), anyInt());
+    }
+
+    private static Task task(Long id) {
+        return Task.builder()
+            .id(id)
+            .title("Task " + id)
+            .status(TODO)
+            .build();
+    }
+}
@@ -0,0 +1,315 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskChangeFeed Tests")
+class TaskChangeFeedTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\n");
+
+    private final ManualExecutor sender = new ManualExecutor();
+
+    private TaskChangeFeed feed(int historySize, int bufferSize) {
+        return new TaskChangeFeed(historySize, bufferSize, Duration.ofMinutes(1), sender);
+    }
+
+    private static TaskChangeEvent deleted(long id) {
+        return TaskChangeEvent.of(ChangeType.DELETED, id);
+    }
+
+    @Nested
+    @DisplayName("Delivery")
+    class Delivery {
+
+        @Test
+        @DisplayName("should deliver events to every subscriber in order with sequential ids")
+        void shouldDeliverEventsInOrder() {
+            TaskChangeFeed feed = feed(10, 10);
+            RecordingEmitter first = new RecordingEmitter();
+            RecordingEmitter second = new RecordingEmitter();
+            feed.subscribe(first, null);
+            feed.subscribe(second, null);
+
+            feed.onTaskChange(deleted(1));
+            feed.onTaskChange(deleted(2));
+            sender.runAll();
+
+            assertThat(first.taskIds()).containsExactly(1L, 2L);
+            assertThat(second.taskIds()).containsExactly(1L, 2L);
+            assertThat(first.ids.get(0)).endsWith(":1");
+            assertThat(first.ids.get(1)).endsWith(":2");
+        }
+
+        @Test
+        @DisplayName("should send heartbeats as comments")
+        void shouldSendHeartbeatsAsComments() {
+            TaskChangeFeed feed = feed(10, 10);
+            RecordingEmitter emitter = new RecordingEmitter();
+            feed.subscribe(emitter, null);
+
+            feed.sendHeartbeats();
+            sender.runAll();
+
+            assertThat(emitter.frames).containsExactly(":heartbeat\n\n");
+            assertThat(emitter.events).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Resume")
+    class Resume {
+
+        @Test
+        @DisplayName("should replay only the events after the last event id")
+        void shouldReplayMissedEvents() {
+            TaskChangeFeed feed = feed(10, 10);
+            RecordingEmitter original = new RecordingEmitter();
+            feed.subscribe(original, null);
+            feed.onTaskChange(deleted(1));
+            sender.runAll();
+            String lastEventId = original.ids.get(0);
+
+            feed.onTaskChange(deleted(2));
+            feed.onTaskChange(deleted(3));
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, lastEventId);
+            feed.onTaskChange(deleted(4));
+            sender.runAll();
+
+            assertThat(resumed.taskIds()).containsExactly(2L, 3L, 4L);
+        }
+
+        @Test
+        @DisplayName("should replay nothing when the client is up to date")
+        void shouldReplayNothingWhenUpToDate() {
+            TaskChangeFeed feed = feed(10, 10);
+            RecordingEmitter original = new RecordingEmitter();
+            feed.subscribe(original, null);
+            feed.onTaskChange(deleted(1));
+            sender.runAll();
+
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, original.ids.get(0));
+            sender.runAll();
+
+            assertThat(resumed.frames).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should send a reset when the missed events are no longer held")
+        void shouldResetWhenHistoryIsGone() {
+            TaskChangeFeed feed = feed(2, 10);
+            RecordingEmitter original = new RecordingEmitter();
+            feed.subscribe(original, null);
+            feed.onTaskChange(deleted(1));
+            sender.runAll();
+            String lastEventId = original.ids.get(0);
+
+            feed.onTaskChange(deleted(2));
+            feed.onTaskChange(deleted(3));
+            feed.onTaskChange(deleted(4));
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, lastEventId);
+            sender.runAll();
+
+            assertThat(resumed.events).extracting(TaskChangeEvent::getType).containsExactly(ChangeType.RESET);
+            assertThat(resumed.ids.get(0)).endsWith(":4");
+        }
+
+        @Test
+        @DisplayName("should reset subscribers and clients resuming from before a reset")
+        void shouldResetAfterMissedChanges() {
+            TaskChangeFeed feed = feed(10, 10);
+            RecordingEmitter original = new RecordingEmitter();
+            feed.subscribe(original, null);
+            feed.onTaskChange(deleted(1));
+            sender.runAll();
+            String beforeReset = original.ids.get(0);
+
+            feed.reset();
+            feed.onTaskChange(deleted(2));
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, beforeReset);
+            sender.runAll();
+
+            assertThat(original.events).extracting(TaskChangeEvent::getType)
+                .containsExactly(ChangeType.DELETED, ChangeType.RESET, ChangeType.DELETED);
+            assertThat(resumed.events).extracting(TaskChangeEvent::getType)
+                .containsExactly(ChangeType.RESET, ChangeType.DELETED);
+        }
+
+        @Test
+        @DisplayName("should send a reset for an id from another feed")
+        void shouldResetForUnknownFeed() {
+            TaskChangeFeed feed = feed(10, 10);
+            feed.onTaskChange(deleted(1));
+
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, "previous-run:1");
+            sender.runAll();
+
+            assertThat(resumed.events).extracting(TaskChangeEvent::getType).containsExactly(ChangeType.RESET);
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("should disconnect a subscriber whose buffer overflows")
+        void shouldDisconnectSlowSubscriber() {
+            TaskChangeFeed feed = feed(10, 2);
+            RecordingEmitter slow = new RecordingEmitter();
+            feed.subscribe(slow, null);
+
+            feed.onTaskChange(deleted(1));
+            feed.onTaskChange(deleted(2));
+            feed.onTaskChange(deleted(3));
+
+            assertThat(feed.subscriberCount()).isZero();
+            sender.runAll();
+            assertThat(slow.completed).isTrue();
+            assertThat(slow.events).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should drop heartbeats rather than disconnect when the buffer is full")
+        void shouldDropHeartbeatsWhenFull() {
+            TaskChangeFeed feed = feed(10, 1);
+            RecordingEmitter emitter = new RecordingEmitter();
+            feed.subscribe(emitter, null);
+
+            feed.onTaskChange(deleted(1));
+            feed.sendHeartbeats();
+
+            assertThat(feed.subscriberCount()).isOne();
+            sender.runAll();
+            assertThat(emitter.taskIds()).containsExactly(1L);
+            assertThat(emitter.completed).isFalse();
+        }
+
+        @Test
+        @DisplayName("should send a reset instead of a replay larger than the buffer")
+        void shouldResetWhenReplayExceedsBuffer() {
+            TaskChangeFeed feed = feed(10, 2);
+            RecordingEmitter original = new RecordingEmitter();
+            feed.subscribe(original, null);
+            feed.onTaskChange(deleted(1));
+            sender.runAll();
+            String lastEventId = original.ids.get(0);
+
+            feed.onTaskChange(deleted(2));
+            feed.onTaskChange(deleted(3));
+            sender.runAll();
+            feed.onTaskChange(deleted(4));
+            RecordingEmitter resumed = new RecordingEmitter();
+            feed.subscribe(resumed, lastEventId);
+            sender.runAll();
+
+            assertThat(resumed.events).extracting(TaskChangeEvent::getType).containsExactly(ChangeType.RESET);
+        }
+    }
+
+    /**
+     * Records what would have been written to the client instead of writing it.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<TaskChangeEvent> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof TaskChangeEvent event) {
+                    events.add(event);
+                } else {
+                    frame.append(part.getData());
+                }
+            });
+            Matcher id = EVENT_ID.matcher(frame);
+            if (id.find()) {
+                ids.add(id.group(1));
+            }
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<Long> taskIds() {
+            return events.stream().map(TaskChangeEvent::getTaskId).toList();
+        }
+    }
+
+    /**
+     * Holds submitted tasks until {@link #runAll()}, so tests control when subscribers drain.
+     */
+    private static final class ManualExecutor extends AbstractExecutorService {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            tasks.clear();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
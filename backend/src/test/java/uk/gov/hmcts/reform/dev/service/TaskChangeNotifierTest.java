@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskChangeNotifier Tests")
+class TaskChangeNotifierTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("should send the task with a change that fits in a notification")
+    void shouldKeepTaskWhenItFits() throws Exception {
+        TaskChangeEvent event = TaskChangeEvent.of(ChangeType.UPDATED,
+            TaskResponse.builder().id(1L).title("Short task").build());
+
+        TaskChangeEvent sent = objectMapper.readValue(TaskChangeNotifier.payload(objectMapper, event),
+            TaskChangeEvent.class);
+
+        assertThat(sent.getTask().getTitle()).isEqualTo("Short task");
+    }
+
+    @Test
+    @DisplayName("should drop the task from a change too large for a notification")
+    void shouldDropTaskWhenTooLarge() throws Exception {
+        TaskChangeEvent event = TaskChangeEvent.of(ChangeType.UPDATED,
+            TaskResponse.builder().id(1L).title("Long task").description("é".repeat(5000)).build());
+
+        String payload = TaskChangeNotifier.payload(objectMapper, event);
+        TaskChangeEvent sent = objectMapper.readValue(payload, TaskChangeEvent.class);
+
+        assertThat(payload.getBytes(StandardCharsets.UTF_8)).hasSizeLessThanOrEqualTo(
+            TaskChangeNotifier.MAX_PAYLOAD_BYTES);
+        assertThat(sent.getType()).isEqualTo(ChangeType.UPDATED);
+        assertThat(sent.getTaskId()).isEqualTo(1L);
+        assertThat(sent.getTask()).isNull();
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskIdAllocator Tests")
+class TaskIdAllocatorTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TaskIdAllocator allocator = new TaskIdAllocator(jdbcTemplate);
+
+    @Test
+    @DisplayName("should hand out the block of 50 ids ending at each sequence value")
+    void shouldAllocateBlocksEndingAtSequenceValue() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(101L, 201L);
+
+        long[] ids = LongStream.range(0, 51).map(i -> allocator.nextId()).toArray();
+
+        assertThat(ids[0]).isEqualTo(52);
+        assertThat(ids[49]).isEqualTo(101);
+        assertThat(ids[50]).isEqualTo(152);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+    }
+}
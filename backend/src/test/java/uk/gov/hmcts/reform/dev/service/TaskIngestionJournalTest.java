@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.dto.TaskRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.TODO;
+
+@DisplayName("TaskIngestionJournal Tests")
+class TaskIngestionJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    private Path directory;
+
+    private TaskIngestionJournal journal() {
+        return new TaskIngestionJournal(directory.resolve("journal"), objectMapper);
+    }
+
+    private static PendingTask task(long id) {
+        return new PendingTask(id, TaskRequest.builder().title("Task " + id).status(TODO).build(),
+            LocalDateTime.of(2024, 12, 31, 17, 0));
+    }
+
+    @Test
+    @DisplayName("should recover nothing from a new journal")
+    void shouldRecoverNothingWhenNew() throws Exception {
+        try (TaskIngestionJournal journal = journal()) {
+            assertThat(journal.recover()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("should recover accepted tasks that were never written, in order")
+    void shouldRecoverUnwrittenTasks() throws Exception {
+        try (TaskIngestionJournal journal = journal()) {
+            journal.recover();
+            journal.append(task(1));
+            journal.append(task(2));
+            journal.append(task(3));
+            journal.markWritten(List.of(2L));
+        }
+
+        try (TaskIngestionJournal journal = journal()) {
+            assertThat(journal.recover()).containsExactly(task(1), task(3));
+        }
+    }
+
+    @Test
+    @DisplayName("should rewrite the journal to hold only the recovered tasks")
+    void shouldCompactOnRecovery() throws Exception {
+        try (TaskIngestionJournal journal = journal()) {
+            journal.recover();
+            journal.append(task(1));
+            journal.append(task(2));
+            journal.markWritten(List.of(1L));
+        }
+
+        try (TaskIngestionJournal journal = journal()) {
+            journal.recover();
+        }
+
+        assertThat(Files.readAllLines(directory.resolve("journal")))
+            .filteredOn(line -> !line.isBlank())
+            .singleElement()
+            .satisfies(line -> assertThat(line).contains("Task 2"));
+    }
+
+    @Test
+    @DisplayName("should empty the journal once every accepted task has been written")
+    void shouldEmptyOnceAllWritten() throws Exception {
+        Path file = directory.resolve("journal");
+        try (TaskIngestionJournal journal = journal()) {
+            journal.recover();
+            journal.append(task(1));
+            journal.append(task(2));
+            journal.markWritten(List.of(1L));
+            assertThat(Files.size(file)).isPositive();
+
+            journal.markWritten(List.of(2L));
+            assertThat(Files.size(file)).isZero();
+
+            journal.append(task(3));
+        }
+
+        try (TaskIngestionJournal journal = journal()) {
+            assertThat(journal.recover()).containsExactly(task(3));
+        }
+    }
+
+    @Test
+    @DisplayName("should compact the journal while running once it passes the size threshold")
+    void shouldCompactPastThreshold() throws Exception {
+        Path file = directory.resolve("journal");
+        try (TaskIngestionJournal journal = new TaskIngestionJournal(file, objectMapper, 1)) {
+            journal.recover();
+            journal.append(task(1));
+            journal.append(task(2));
+            journal.append(task(3));
+            journal.markWritten(List.of(1L));
+
+            assertThat(Files.readAllLines(file))
+                .filteredOn(line -> !line.isBlank())
+                .hasSize(2)
+                .noneMatch(line -> line.contains("Task 1") || line.contains("\"written\":["));
+
+            journal.append(task(4));
+        }
+
+        try (TaskIngestionJournal journal = journal()) {
+            assertThat(journal.recover()).containsExactly(task(2), task(3), task(4));
+        }
+    }
+
+    @Test
+    @DisplayName("should skip an entry cut short by a crash")
+    void shouldSkipTornEntry() throws Exception {
+        try (TaskIngestionJournal journal = journal()) {
+            journal.recover();
+            journal.append(task(1));
+        }
+        Files.writeString(directory.resolve("journal"), "\n{\"accepted\":{\"id\":2,\"requ",
+            StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (TaskIngestionJournal journal = journal()) {
+            assertThat(journal.recover()).containsExactly(task(1));
+            journal.append(task(3));
+        }
+
+        try (TaskIngestionJournal journal = journal()) {
+            assertThat(journal.recover()).containsExactly(task(1), task(3));
+        }
+    }
+}
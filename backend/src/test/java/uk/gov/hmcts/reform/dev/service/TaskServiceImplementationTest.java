@@ -1,5 +1,10 @@
 package uk.gov.hmcts.reform.dev.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,26 +13,71 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentMatchers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResponse;
+import uk.gov.hmcts.reform.dev.dto.BulkCreateTaskResult;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusUpdateResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskBulkChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeCursor;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.dto.TaskChangeEvent.ChangeType;
+import uk.gov.hmcts.reform.dev.dto.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.dto.TaskExportFormat;
+import uk.gov.hmcts.reform.dev.dto.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskQueryRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskSortKey;
 import uk.gov.hmcts.reform.dev.dto.TaskRequest;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskSearchCursor;
 import uk.gov.hmcts.reform.dev.entity.Task;
 import uk.gov.hmcts.reform.dev.entity.Task.TaskStatus;
 import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.TaskVersionConflictException;
+import uk.gov.hmcts.reform.dev.repository.TaskChangeHit;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearchHit;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.LocalDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.dev.entity.Task.TaskStatus.COMPLETED;
@@ -41,6 +91,27 @@ class TaskServiceImplementationTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskCacheEvictor taskCacheEvictor;
+
     @InjectMocks
     private TaskServiceImplementation taskService;
 
@@ -88,6 +159,9 @@ class TaskServiceImplementationTest {
             assertThat(response.getDueDateTime()).isEqualTo(testDateTime.plusDays(7));
 
             verify(taskRepository).save(any(Task.class));
+            TaskChangeEvent event = publishedEvent();
+            assertThat(event.getType()).isEqualTo(ChangeType.CREATED);
+            assertThat(event.getTask()).isEqualTo(response);
         }
 
         @Test
@@ -133,6 +207,100 @@ class TaskServiceImplementationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Create Tasks In Bulk")
+    class CreateTasksInBulk {
+
+        private long nextId = 1;
+
+        @BeforeEach
+        void setUp() {
+            when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+                Task task = invocation.getArgument(0);
+                task.setId(nextId++);
+                return task;
+            });
+        }
+
+        @Test
+        @DisplayName("should create all valid tasks and flush once per batch")
+        void shouldCreateAllValidTasksInBatches() {
+            List<TaskRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                requests.add(TaskRequest.builder().title("Task " + i).status(TODO).build());
+            }
+
+            BulkCreateTaskResponse response = taskService.createTasks(requests);
+
+            assertThat(response.getCreated()).isEqualTo(120);
+            assertThat(response.getRejected()).isZero();
+            assertThat(response.getResults())
+                .extracting(BulkCreateTaskResult::getOutcome)
+                .containsOnly(BulkCreateTaskResult.Outcome.CREATED);
+            assertThat(response.getResults().get(119).getTask().getTitle()).isEqualTo("Task 119");
+            verify(taskRepository, times(120)).save(any(Task.class));
+            verify(entityManager, times(3)).flush();
+            verify(entityManager, times(3)).clear();
+            assertThat(bulkChanges()).hasSize(120)
+                .allSatisfy(change -> assertThat(change.getType()).isEqualTo(ChangeType.CREATED))
+                .extracting(change -> change.getTask().getTitle())
+                .startsWith("Task 0", "Task 1");
+        }
+
+        @Test
+        @DisplayName("should record each created task for the outbox and send one event to the change feed")
+        void shouldPublishOneFeedEventPerBulkCreate() {
+            taskService.createTasks(List.of(testRequest, testRequest));
+
+            List<Object> events = publishedEvents();
+            assertThat(events).hasSize(2);
+            assertThat(events.get(0)).isInstanceOfSatisfying(TaskBulkChangeEvent.class,
+                event -> assertThat(event.changes()).extracting(TaskChangeEvent::getTaskId).containsExactly(1L, 2L));
+            assertThat(events.get(1)).isInstanceOfSatisfying(TaskChangeEvent.class,
+                event -> assertThat(event.getType()).isEqualTo(ChangeType.BULK_CHANGED));
+        }
+
+        @Test
+        @DisplayName("should reject invalid tasks individually and keep request order")
+        void shouldRejectInvalidTasksIndividually() {
+            List<TaskRequest> requests = Arrays.asList(
+                TaskRequest.builder().title("Valid").status(TODO).build(),
+                TaskRequest.builder().title("").status(TODO).build(),
+                null
+            );
+
+            BulkCreateTaskResponse response = taskService.createTasks(requests);
+
+            assertThat(response.getCreated()).isEqualTo(1);
+            assertThat(response.getRejected()).isEqualTo(2);
+            assertThat(response.getResults()).extracting(BulkCreateTaskResult::getIndex).containsExactly(0, 1, 2);
+            assertThat(response.getResults().get(0).getOutcome()).isEqualTo(BulkCreateTaskResult.Outcome.CREATED);
+            assertThat(response.getResults().get(1).getErrors())
+                .containsEntry("title", "The task title is required.");
+            assertThat(response.getResults().get(2).getErrors()).containsKey("task");
+            verify(taskRepository).save(any(Task.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Request Limits")
+    class BulkRequestLimits {
+
+        @Test
+        @DisplayName("should reject empty and oversized bulk requests")
+        void shouldRejectEmptyAndOversizedRequests() {
+            List<TaskRequest> oversized = Collections.nCopies(1001, testRequest);
+
+            assertThatThrownBy(() -> taskService.createTasks(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Bulk requests must contain between 1 and 1000 tasks");
+            assertThatThrownBy(() -> taskService.createTasks(oversized))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            verify(taskRepository, never()).save(any());
+        }
+    }
+
     @Nested
     @DisplayName("Get Task By ID")
     class GetTaskById {
@@ -199,6 +367,353 @@ class TaskServiceImplementationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Tasks Page")
+    class GetTasksPage {
+
+        @Test
+        @DisplayName("should return first page with next token when more tasks exist")
+        void shouldReturnFirstPageWithNextToken() {
+            Task task1 = createTask(1L, "Task 1", TODO);
+            Task task2 = createTask(2L, "Task 2", IN_PROGRESS);
+            Task task3 = createTask(3L, "Task 3", COMPLETED);
+
+            when(taskRepository.findFirstPage(3)).thenReturn(List.of(task1, task2, task3));
+
+            TaskPageResponse page = taskService.getTasks(null, 2);
+
+            assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+            assertThat(page.getNextPageToken()).isEqualTo(TaskCursor.fromEntity(task2).encode());
+            verify(taskRepository).findFirstPage(3);
+        }
+
+        @Test
+        @DisplayName("should continue after the position in the page token")
+        void shouldContinueAfterPageToken() {
+            Task task3 = createTask(3L, "Task 3", COMPLETED);
+            String token = new TaskCursor(testDateTime, 2L).encode();
+
+            when(taskRepository.findPageAfter(testDateTime, 2L, 3)).thenReturn(List.of(task3));
+
+            TaskPageResponse page = taskService.getTasks(token, 2);
+
+            assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(3L);
+            assertThat(page.getNextPageToken()).isNull();
+            verify(taskRepository, never()).findFirstPage(anyInt());
+        }
+
+        @ParameterizedTest(name = "should reject page size {0}")
+        @CsvSource({"0", "-1", "201"})
+        @DisplayName("should reject page sizes outside the allowed range")
+        void shouldRejectPageSizeOutOfRange(int size) {
+            assertThatThrownBy(() -> taskService.getTasks(null, size))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be between 1 and 200");
+
+            verify(taskRepository, never()).findFirstPage(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tasks")
+    class QueryTasks {
+
+        @Test
+        @DisplayName("should return matching page with token positioned on the sort key")
+        void shouldReturnPageWithTokenOnSortKey() {
+            Task task1 = createTask(1L, "Task 1", TODO);
+            Task task2 = createTask(2L, "Task 2", IN_PROGRESS);
+            TaskQueryRequest query = new TaskQueryRequest();
+            query.setStatus(List.of(TODO, IN_PROGRESS));
+            query.setSort(TaskSortKey.DUE_DATE_TIME);
+            query.setSize(2);
+
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any()))
+                .thenReturn(Window.from(List.of(task1, task2), ScrollPosition::offset, true));
+
+            TaskPageResponse page = taskService.queryTasks(query);
+
+            assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+            assertThat(TaskCursor.decode(page.getNextPageToken()))
+                .isEqualTo(new TaskCursor(task2.getDueDateTime(), 2L));
+        }
+
+        @Test
+        @DisplayName("should omit token on last page")
+        void shouldOmitTokenOnLastPage() {
+            when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any()))
+                .thenReturn(Window.from(List.of(testTask), ScrollPosition::offset, false));
+
+            TaskPageResponse page = taskService.queryTasks(new TaskQueryRequest());
+
+            assertThat(page.getTasks()).hasSize(1);
+            assertThat(page.getNextPageToken()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject an empty date range")
+        void shouldRejectEmptyDateRange() {
+            TaskQueryRequest query = new TaskQueryRequest();
+            query.setDueFrom(testDateTime);
+            query.setDueTo(testDateTime);
+
+            assertThatThrownBy(() -> taskService.queryTasks(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Range start for dueDateTime must be before its end");
+        }
+
+        @Test
+        @DisplayName("should reject page size outside the allowed range")
+        void shouldRejectInvalidPageSize() {
+            TaskQueryRequest query = new TaskQueryRequest();
+            query.setSize(500);
+
+            assertThatThrownBy(() -> taskService.queryTasks(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be between 1 and 200");
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Tasks")
+    class SearchTasks {
+
+        @Test
+        @DisplayName("should return tasks in hit order with token positioned on the last rank")
+        void shouldReturnTasksInHitOrder() {
+            Task task1 = createTask(1L, "Court bundle", TODO);
+            Task task2 = createTask(2L, "Court listing", IN_PROGRESS);
+            when(taskRepository.searchFirstPage("court", "%court%", 3))
+                .thenReturn(List.of(searchHit(2L, 0.6f), searchHit(1L, 0.3f), searchHit(3L, 0.1f)));
+            when(taskRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(task1, task2));
+
+            TaskPageResponse page = taskService.searchTasks(" court ", null, 2);
+
+            assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(2L, 1L);
+            assertThat(TaskSearchCursor.decode(page.getNextPageToken())).isEqualTo(new TaskSearchCursor(0.3f, 1L));
+        }
+
+        @Test
+        @DisplayName("should continue after the rank and id in the page token")
+        void shouldContinueAfterToken() {
+            String token = new TaskSearchCursor(0.3f, 1L).encode();
+            when(taskRepository.searchPageAfter("court", "%court%", 0.3f, 1L, 3))
+                .thenReturn(List.of(searchHit(3L, 0.1f)));
+            when(taskRepository.findAllById(List.of(3L))).thenReturn(List.of(createTask(3L, "Court", TODO)));
+
+            TaskPageResponse page = taskService.searchTasks("court", token, 2);
+
+            assertThat(page.getTasks()).extracting(TaskResponse::getId).containsExactly(3L);
+            assertThat(page.getNextPageToken()).isNull();
+        }
+
+        @Test
+        @DisplayName("should escape LIKE wildcards in the substring pattern")
+        void shouldEscapeLikeWildcards() {
+            when(taskRepository.searchFirstPage("50%_off\\", "%50\\%\\_off\\\\%", 51)).thenReturn(List.of());
+            when(taskRepository.findAllById(List.of())).thenReturn(List.of());
+
+            TaskPageResponse page = taskService.searchTasks("50%_off\\", null, 50);
+
+            assertThat(page.getTasks()).isEmpty();
+        }
+
+        @ParameterizedTest(name = "should reject query \"{0}\"")
+        @ValueSource(strings = {"", "  ", "ab", " ab "})
+        @DisplayName("should reject queries that are too short")
+        void shouldRejectShortQueries(String query) {
+            assertThatThrownBy(() -> taskService.searchTasks(query, null, 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Search query must be between 3 and 200 characters");
+            verify(taskRepository, never()).searchFirstPage(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should reject page size outside the allowed range")
+        void shouldRejectInvalidPageSize() {
+            assertThatThrownBy(() -> taskService.searchTasks("court", null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be between 1 and 200");
+        }
+
+        private static TaskSearchHit searchHit(Long id, float rank) {
+            return new TaskSearchHit() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public Float getRank() {
+                    return rank;
+                }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Task Changes")
+    class GetTaskChanges {
+
+        @Test
+        @DisplayName("should split changes into current tasks and deleted ids up to the horizon")
+        void shouldReturnChangesAndDeletes() {
+            Task task1 = createTask(1L, "Changed", IN_PROGRESS);
+            Task task3 = createTask(3L, "Created", TODO);
+            when(taskRepository.findChangeHorizon()).thenReturn(900L);
+            when(taskRepository.findChangesAfter(900L, 500L, 0L, 51))
+                .thenReturn(List.of(changeHit(3L, 510L, false), changeHit(2L, 520L, true), changeHit(1L, 530L, false)));
+            when(taskRepository.findAllById(List.of(3L, 1L))).thenReturn(List.of(task1, task3));
+
+            TaskChangesResponse changes = taskService.getTaskChanges(500L, null, 50);
+
+            assertThat(changes.getTasks()).extracting(TaskResponse::getId).containsExactly(3L, 1L);
+            assertThat(changes.getDeletedIds()).containsExactly(2L);
+            assertThat(changes.getVersion()).isEqualTo(900L);
+            assertThat(changes.getNextPageToken()).isNull();
+        }
+
+        @Test
+        @DisplayName("should start from version zero and keep the horizon in the page token")
+        void shouldKeepHorizonAcrossPages() {
+            when(taskRepository.findChangeHorizon()).thenReturn(900L);
+            when(taskRepository.findChangesAfter(900L, 0L, 0L, 2))
+                .thenReturn(List.of(changeHit(4L, 600L, true), changeHit(5L, 610L, true)));
+
+            TaskChangesResponse first = taskService.getTaskChanges(null, null, 1);
+
+            assertThat(first.getDeletedIds()).containsExactly(4L);
+            assertThat(TaskChangeCursor.decode(first.getNextPageToken()))
+                .isEqualTo(new TaskChangeCursor(900L, 600L, 4L));
+
+            when(taskRepository.findChangesAfter(900L, 600L, 4L, 2)).thenReturn(List.of(changeHit(5L, 610L, true)));
+
+            TaskChangesResponse second = taskService.getTaskChanges(null, first.getNextPageToken(), 1);
+
+            assertThat(second.getDeletedIds()).containsExactly(5L);
+            assertThat(second.getVersion()).isEqualTo(900L);
+            assertThat(second.getNextPageToken()).isNull();
+            verify(taskRepository).findChangeHorizon();
+        }
+
+        @Test
+        @DisplayName("should not move a client backwards when its version is past the horizon")
+        void shouldNotMoveVersionBackwards() {
+            when(taskRepository.findChangeHorizon()).thenReturn(900L);
+            when(taskRepository.findChangesAfter(950L, 950L, 0L, 51)).thenReturn(List.of());
+
+            TaskChangesResponse changes = taskService.getTaskChanges(950L, null, 50);
+
+            assertThat(changes.getTasks()).isEmpty();
+            assertThat(changes.getDeletedIds()).isEmpty();
+            assertThat(changes.getVersion()).isEqualTo(950L);
+        }
+
+        @Test
+        @DisplayName("should start over from version zero when deletes since the version were pruned")
+        void shouldResetBelowChangeFloor() {
+            when(taskRepository.findChangeHorizon()).thenReturn(900L);
+            when(taskRepository.findChangeFloor()).thenReturn(600L);
+            when(taskRepository.findChangesAfter(900L, 0L, 0L, 51)).thenReturn(List.of());
+
+            TaskChangesResponse changes = taskService.getTaskChanges(500L, null, 50);
+
+            assertThat(changes.isReset()).isTrue();
+            assertThat(changes.getVersion()).isEqualTo(900L);
+        }
+
+        @Test
+        @DisplayName("should not reset a client at or above the change floor")
+        void shouldNotResetAtChangeFloor() {
+            when(taskRepository.findChangeHorizon()).thenReturn(900L);
+            when(taskRepository.findChangeFloor()).thenReturn(600L);
+            when(taskRepository.findChangesAfter(900L, 600L, 0L, 51)).thenReturn(List.of());
+
+            assertThat(taskService.getTaskChanges(600L, null, 50).isReset()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject a negative version")
+        void shouldRejectNegativeVersion() {
+            assertThatThrownBy(() -> taskService.getTaskChanges(-1L, null, 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Change version must not be negative");
+        }
+
+        private static TaskChangeHit changeHit(Long id, long version, boolean deleted) {
+            return new TaskChangeHit() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public Long getVersion() {
+                    return version;
+                }
+
+                @Override
+                public Boolean getDeleted() {
+                    return deleted;
+                }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Tasks")
+    class ExportTasks {
+
+        @Test
+        @DisplayName("should write one JSON object per line and detach each task")
+        void shouldWriteNdjsonAndDetachEachTask() throws Exception {
+            Task task1 = createTask(1L, "Task 1", TODO);
+            Task task2 = createTask(2L, "Task 2", COMPLETED);
+            when(taskRepository.streamAllForExport()).thenReturn(Stream.of(task1, task2));
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            long exported = taskService.exportTasks(TaskExportFormat.NDJSON, output);
+
+            String[] lines = output.toString(UTF_8).split("\n");
+            assertThat(exported).isEqualTo(2);
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readValue(lines[0], TaskResponse.class).getTitle()).isEqualTo("Task 1");
+            assertThat(objectMapper.readValue(lines[1], TaskResponse.class).getStatus()).isEqualTo(COMPLETED);
+            verify(entityManager).detach(task1);
+            verify(entityManager).detach(task2);
+        }
+
+        @Test
+        @DisplayName("should write CSV with header and quoted fields")
+        void shouldWriteCsvWithHeaderAndQuotedFields() throws Exception {
+            Task task = createTask(1L, "Review, then file", TODO);
+            task.setDescription("Marked \"urgent\"");
+            task.setDueDateTime(null);
+            when(taskRepository.streamAllForExport()).thenReturn(Stream.of(task));
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            long exported = taskService.exportTasks(TaskExportFormat.CSV, output);
+
+            String[] lines = output.toString(UTF_8).split("\n");
+            assertThat(exported).isEqualTo(1);
+            assertThat(lines[0]).isEqualTo(TaskServiceImplementation.CSV_HEADER);
+            assertThat(lines[1]).startsWith("1,\"Review, then file\",\"Marked \"\"urgent\"\"\",TODO,,");
+            verify(entityManager).detach(task);
+        }
+
+        @Test
+        @DisplayName("should write nothing but the CSV header when there are no tasks")
+        void shouldWriteOnlyHeaderWhenNoTasks() throws Exception {
+            when(taskRepository.streamAllForExport()).thenReturn(Stream.empty());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            long exported = taskService.exportTasks(TaskExportFormat.CSV, output);
+
+            assertThat(exported).isZero();
+            assertThat(output.toString(UTF_8)).isEqualTo(TaskServiceImplementation.CSV_HEADER + "\n");
+        }
+    }
+
     @Nested
     @DisplayName("Update Task Status")
     class UpdateTaskStatus {
@@ -212,30 +727,144 @@ class TaskServiceImplementationTest {
         })
         @DisplayName("should update task status successfully")
         void shouldUpdateTaskStatusSuccessfully(TaskStatus fromStatus, TaskStatus toStatus) {
-            testTask.setStatus(fromStatus);
             Task updatedTask = createTask(1L, "Test Task", toStatus);
 
-            when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-            when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+            when(taskRepository.updateStatusById(eq(1L), eq(toStatus.name()), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.of(updatedTask));
 
-            TaskResponse response = taskService.updateTaskStatus(1L, toStatus);
+            TaskResponse response = taskService.updateTaskStatus(1L, toStatus, null);
 
             assertThat(response.getStatus()).isEqualTo(toStatus);
-            verify(taskRepository).findById(1L);
-            verify(taskRepository).save(any(Task.class));
+            verify(taskRepository).updateStatusById(eq(1L), eq(toStatus.name()), any(LocalDateTime.class), isNull());
+            verify(taskRepository, never()).findById(anyLong());
+            verify(taskRepository, never()).save(any());
+            verify(taskCacheEvictor).evictTasks(List.of(1L));
+            TaskChangeEvent event = publishedEvent();
+            assertThat(event.getType()).isEqualTo(ChangeType.STATUS_CHANGED);
+            assertThat(event.getTaskId()).isEqualTo(1L);
         }
 
         @Test
-        @DisplayName("should throw exception when task not found")
+        @DisplayName("should throw exception when no row was updated")
         void shouldThrowExceptionWhenTaskNotFound() {
-            when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+            when(taskRepository.updateStatusById(eq(99L), eq("COMPLETED"), any(LocalDateTime.class), isNull()))
+                .thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> taskService.updateTaskStatus(99L, COMPLETED))
+            assertThatThrownBy(() -> taskService.updateTaskStatus(99L, COMPLETED, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with id: 99");
 
-            verify(taskRepository).findById(99L);
             verify(taskRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("should only update the expected version")
+        void shouldOnlyUpdateExpectedVersion() {
+            Task updatedTask = createTask(1L, "Test Task", COMPLETED);
+            updatedTask.setVersion(4L);
+            when(taskRepository.updateStatusById(eq(1L), eq("COMPLETED"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(Optional.of(updatedTask));
+
+            TaskResponse response = taskService.updateTaskStatus(1L, COMPLETED, 3L);
+
+            assertThat(response.getVersion()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("should report a conflict when the task exists at another version")
+        void shouldReportConflictForStaleVersion() {
+            when(taskRepository.updateStatusById(eq(1L), eq("COMPLETED"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(Optional.empty());
+            when(taskRepository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> taskService.updateTaskStatus(1L, COMPLETED, 3L))
+                .isInstanceOf(TaskVersionConflictException.class)
+                .hasMessageContaining("version 3");
+
+            verify(taskCacheEvictor, never()).evictTasks(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("should report not found rather than a conflict for a missing task")
+        void shouldReportNotFoundForMissingTaskWithExpectedVersion() {
+            when(taskRepository.updateStatusById(eq(99L), eq("COMPLETED"), any(LocalDateTime.class), eq(3L)))
+                .thenReturn(Optional.empty());
+            when(taskRepository.existsById(99L)).thenReturn(false);
+
+            assertThatThrownBy(() -> taskService.updateTaskStatus(99L, COMPLETED, 3L))
+                .isInstanceOf(TaskNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Task Statuses In Bulk")
+    class UpdateTaskStatusesInBulk {
+
+        @Test
+        @DisplayName("should update by ids and report missing ids in request order")
+        void shouldUpdateByIdsAndReportMissing() {
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .ids(List.of(3L, 1L, 2L, 1L))
+                .status(COMPLETED)
+                .build();
+
+            when(taskRepository.updateStatusByIdIn(any(), eq("COMPLETED"), any(LocalDateTime.class)))
+                .thenReturn(List.of(1L));
+
+            BulkStatusUpdateResponse response = taskService.updateTaskStatuses(request);
+
+            assertThat(response.getUpdated()).isEqualTo(1);
+            assertThat(response.getMissingIds()).containsExactly(3L, 2L);
+            verify(taskRepository, never()).findById(anyLong());
+            verify(entityManager).clear();
+            verify(taskCacheEvictor).evictTasks(Set.of(1L));
+            assertThat(bulkChanges()).singleElement().satisfies(change -> {
+                assertThat(change.getType()).isEqualTo(ChangeType.STATUS_CHANGED);
+                assertThat(change.getTaskId()).isEqualTo(1L);
+            });
+        }
+
+        @Test
+        @DisplayName("should update by filter in a single statement")
+        void shouldUpdateByFilter() {
+            LocalDateTime dueBefore = testDateTime.plusDays(1);
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .currentStatus(IN_PROGRESS)
+                .dueBefore(dueBefore)
+                .status(COMPLETED)
+                .build();
+
+            when(taskRepository.updateStatusByFilter(eq("IN_PROGRESS"), eq(dueBefore), eq("COMPLETED"),
+                any(LocalDateTime.class))).thenReturn(List.of(4L, 7L));
+
+            BulkStatusUpdateResponse response = taskService.updateTaskStatuses(request);
+
+            assertThat(response.getUpdated()).isEqualTo(2);
+            assertThat(response.getMissingIds()).isEmpty();
+            verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any());
+            verify(entityManager).clear();
+            verify(taskCacheEvictor).evictTasks(List.of(4L, 7L));
+            assertThat(bulkChanges()).extracting(TaskChangeEvent::getTaskId).containsExactly(4L, 7L);
+            assertThat(publishedEvents()).last()
+                .isInstanceOfSatisfying(TaskChangeEvent.class,
+                    event -> assertThat(event.getType()).isEqualTo(ChangeType.BULK_CHANGED));
+        }
+
+        @ParameterizedTest(name = "should reject selection when ids present is {0} and filter present is {1}")
+        @CsvSource({"true, true", "false, false"})
+        @DisplayName("should require exactly one of ids or filter")
+        void shouldRequireExactlyOneSelection(boolean withIds, boolean withFilter) {
+            BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .ids(withIds ? List.of(1L) : null)
+                .currentStatus(withFilter ? TODO : null)
+                .status(COMPLETED)
+                .build();
+
+            assertThatThrownBy(() -> taskService.updateTaskStatuses(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Provide either task ids or a filter, but not both");
         }
     }
 
@@ -264,9 +893,9 @@ class TaskServiceImplementationTest {
                 .build();
 
             when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-            when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+            when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(updatedTask);
 
-            TaskResponse response = taskService.updateTask(1L, updateRequest);
+            TaskResponse response = taskService.updateTask(1L, updateRequest, null);
 
             assertThat(response.getTitle()).isEqualTo("Updated Title");
             assertThat(response.getDescription()).isEqualTo("Updated Description");
@@ -274,7 +903,10 @@ class TaskServiceImplementationTest {
             assertThat(response.getDueDateTime()).isEqualTo(testDateTime.plusDays(14));
 
             verify(taskRepository).findById(1L);
-            verify(taskRepository).save(any(Task.class));
+            verify(taskRepository).saveAndFlush(any(Task.class));
+            TaskChangeEvent event = publishedEvent();
+            assertThat(event.getType()).isEqualTo(ChangeType.UPDATED);
+            assertThat(event.getTask().getTitle()).isEqualTo("Updated Title");
         }
 
         @Test
@@ -288,11 +920,39 @@ class TaskServiceImplementationTest {
                 .build();
 
             when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-            when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+            when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
-            taskService.updateTask(1L, updateRequest);
+            taskService.updateTask(1L, updateRequest, null);
 
-            verify(taskRepository).save(any(Task.class));
+            verify(taskRepository).saveAndFlush(any(Task.class));
+        }
+
+        @Test
+        @DisplayName("should update when the expected version is current")
+        void shouldUpdateWhenExpectedVersionIsCurrent() {
+            testTask.setVersion(3L);
+            when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+            when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
+
+            taskService.updateTask(1L, testRequest, 3L);
+
+            verify(taskRepository).saveAndFlush(testTask);
+        }
+
+        @Test
+        @DisplayName("should reject the update when the task has moved past the expected version")
+        void shouldRejectStaleExpectedVersion() {
+            testTask.setVersion(4L);
+            when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+            TaskRequest updateRequest = TaskRequest.builder().title("Lost Update").status(COMPLETED).build();
+
+            assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest, 3L))
+                .isInstanceOf(TaskVersionConflictException.class);
+
+            assertThat(testTask.getTitle()).isEqualTo("Test Task");
+            verify(taskRepository, never()).saveAndFlush(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -300,12 +960,12 @@ class TaskServiceImplementationTest {
         void shouldThrowExceptionWhenTaskNotFound() {
             when(taskRepository.findById(99L)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> taskService.updateTask(99L, testRequest))
+            assertThatThrownBy(() -> taskService.updateTask(99L, testRequest, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with id: 99");
 
             verify(taskRepository).findById(99L);
-            verify(taskRepository, never()).save(any());
+            verify(taskRepository, never()).saveAndFlush(any());
         }
     }
 
@@ -314,31 +974,120 @@ class TaskServiceImplementationTest {
     class DeleteTask {
 
         @Test
-        @DisplayName("should delete task successfully when exists")
+        @DisplayName("should delete task with a single statement")
         void shouldDeleteTaskSuccessfully() {
-            when(taskRepository.existsById(1L)).thenReturn(true);
+            when(taskRepository.deleteTaskById(eq(1L), any(LocalDateTime.class))).thenReturn(1);
 
             taskService.deleteTask(1L);
 
-            verify(taskRepository).existsById(1L);
-            verify(taskRepository).deleteById(1L);
+            verify(taskRepository).deleteTaskById(eq(1L), any(LocalDateTime.class));
+            verify(taskRepository, never()).existsById(anyLong());
+            verify(taskRepository, never()).deleteById(anyLong());
+            TaskChangeEvent event = publishedEvent();
+            assertThat(event.getType()).isEqualTo(ChangeType.DELETED);
+            assertThat(event.getTaskId()).isEqualTo(1L);
         }
 
         @ParameterizedTest(name = "should throw exception when task with id {0} does not exist")
         @CsvSource({"1", "99", "999"})
-        @DisplayName("should throw exception for non-existent tasks")
+        @DisplayName("should throw exception when no row was deleted")
         void shouldThrowExceptionWhenTaskDoesNotExist(Long id) {
-            when(taskRepository.existsById(id)).thenReturn(false);
+            when(taskRepository.deleteTaskById(eq(id), any(LocalDateTime.class))).thenReturn(0);
 
             assertThatThrownBy(() -> taskService.deleteTask(id))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with id: " + id);
 
-            verify(taskRepository).existsById(id);
-            verify(taskRepository, never()).deleteById(anyLong());
+            verify(taskRepository).deleteTaskById(eq(id), any(LocalDateTime.class));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
     }
 
+    @Nested
+    @DisplayName("Purge Closed Tasks")
+    class PurgeClosedTasks {
+
+        @Test
+        @DisplayName("should delete in chunks until a partial chunk is returned")
+        void shouldDeleteInChunksUntilPartialChunk() {
+            LocalDateTime cutoff = testDateTime.minusDays(30);
+            when(taskRepository.deleteChunkByStatusInAndUpdatedAtBefore(
+                eq(TaskServiceImplementation.CLOSED_STATUSES), eq(cutoff), any(LocalDateTime.class),
+                eq(TaskServiceImplementation.PURGE_CHUNK_SIZE)
+            )).thenReturn(ids(1, 500), ids(501, 1000), ids(1001, 1120));
+
+            long deleted = taskService.purgeClosedTasks(cutoff);
+
+            assertThat(deleted).isEqualTo(1120);
+            verify(taskRepository, times(3)).deleteChunkByStatusInAndUpdatedAtBefore(
+                eq(TaskServiceImplementation.CLOSED_STATUSES), eq(cutoff), any(LocalDateTime.class),
+                eq(TaskServiceImplementation.PURGE_CHUNK_SIZE)
+            );
+            verify(transactionTemplate, times(3)).execute(any());
+            verify(taskCacheEvictor, times(3)).evictTasks(any());
+            List<Object> events = publishedEvents();
+            assertThat(events).hasSize(4);
+            assertThat(events.subList(0, 3)).allSatisfy(event -> assertThat(event)
+                .isInstanceOfSatisfying(TaskBulkChangeEvent.class, chunk -> assertThat(chunk.changes())
+                    .allSatisfy(change -> assertThat(change.getType()).isEqualTo(ChangeType.DELETED))));
+            assertThat(events.get(3)).isInstanceOfSatisfying(TaskChangeEvent.class,
+                event -> assertThat(event.getType()).isEqualTo(ChangeType.BULK_CHANGED));
+        }
+
+        @Test
+        @DisplayName("should record each chunk's deletes for the outbox inside that chunk's transaction")
+        void shouldPublishChunkDeletesInsideTheChunkTransaction() {
+            LocalDateTime cutoff = testDateTime.minusDays(30);
+            AtomicBoolean inChunk = new AtomicBoolean();
+            List<Boolean> publishedInChunk = new ArrayList<>();
+            doAnswer(invocation -> {
+                inChunk.set(true);
+                try {
+                    return invocation.callRealMethod();
+                } finally {
+                    inChunk.set(false);
+                }
+            }).when(transactionTemplate).execute(any());
+            doAnswer(invocation -> publishedInChunk.add(inChunk.get()))
+                .when(eventPublisher).publishEvent(any(Object.class));
+            when(taskRepository.deleteChunkByStatusInAndUpdatedAtBefore(any(), any(), any(), anyInt()))
+                .thenReturn(ids(1, 3));
+
+            taskService.purgeClosedTasks(cutoff);
+
+            assertThat(publishedInChunk).containsExactly(true, false);
+            assertThat(bulkChanges()).extracting(TaskChangeEvent::getTaskId).containsExactly(1L, 2L, 3L);
+
+        @Test
+        @DisplayName("should only target completed and cancelled tasks")
+        void shouldOnlyTargetClosedStatuses() {
+            assertThat(TaskServiceImplementation.CLOSED_STATUSES).containsExactly("COMPLETED", "CANCELLED");
+        }
+    }
+
+    private List<Object> publishedEvents() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private List<TaskChangeEvent> bulkChanges() {
+        return publishedEvents().stream()
+            .filter(TaskBulkChangeEvent.class::isInstance)
+            .flatMap(event -> ((TaskBulkChangeEvent) event).changes().stream())
+            .toList();
+    }
+
+    private static List<Long> ids(long first, long last) {
+        return LongStream.rangeClosed(first, last).boxed().toList();
+    }
+
+    private TaskChangeEvent publishedEvent() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return (TaskChangeEvent) captor.getValue();
+    }
+
     private Task createTask(Long id, String title, TaskStatus status) {
         return Task.builder()
             .id(id)
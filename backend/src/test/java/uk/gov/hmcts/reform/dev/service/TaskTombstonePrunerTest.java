@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TaskTombstonePruner Tests")
+class TaskTombstonePrunerTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskTombstonePruner pruner = new TaskTombstonePruner(taskRepository,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)), Duration.ofDays(30), 2);
+
+    @Test
+    @DisplayName("should prune tombstones past the retention window in chunks until one comes back short")
+    void shouldPruneInChunks() {
+        when(taskRepository.pruneTombstonesDeletedBefore(any(), eq(2))).thenReturn(2L, 2L, 1L);
+
+        assertThat(pruner.prune()).isEqualTo(5);
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        verify(taskRepository, times(3)).pruneTombstonesDeletedBefore(
+            argThat(deletedBefore -> Duration.between(deletedBefore, cutoff).abs().toMinutes() < 1), eq(2));
+    }
+
+    @Test
+    @DisplayName("should keep what it pruned and retry later when a chunk fails")
+    void shouldStopWhenChunkFails() {
+        when(taskRepository.pruneTombstonesDeletedBefore(any(), eq(2)))
+            .thenReturn(2L)
+            .thenThrow(new QueryTimeoutException("Timed out"));
+
+        assertThat(pruner.prune()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JdbcStatementTracing Tests")
+class JdbcStatementTracingTest {
+
+    private final SimpleTracer tracer = new SimpleTracer();
+    private final JdbcStatementTracing tracing = new JdbcStatementTracing(tracer);
+
+    private void execute(String sql, ExecutionInfo execInfo) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        tracing.beforeQuery(execInfo, queries);
+        tracing.afterQuery(execInfo, queries);
+    }
+
+    private SimpleSpan inRequestSpan(String sql, ExecutionInfo execInfo) {
+        Span request = tracer.nextSpan().name("http get").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+            execute(sql, execInfo);
+        } finally {
+            request.end();
+        }
+        return tracer.getSpans().stream()
+            .filter(span -> span.getName().startsWith("jdbc"))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static ExecutionInfo succeeded() {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+
+    @Test
+    @DisplayName("should add a span named after the SQL operation to the current trace")
+    void shouldTraceStatementInCurrentTrace() {
+        SimpleSpan statement = inRequestSpan("  SELECT * FROM tasks WHERE id = ?", succeeded());
+
+        assertThat(statement.getName()).isEqualTo("jdbc select");
+        assertThat(statement.getTags()).containsEntry("db.statement", "  SELECT * FROM tasks WHERE id = ?");
+        assertThat(statement.getSpanKind()).isEqualTo(Span.Kind.CLIENT);
+        assertThat(statement.getEndTimestamp()).isNotNull();
+        assertThat(tracer.getSpans()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should record the error of a failed statement")
+    void shouldRecordFailure() {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setSuccess(false);
+        execInfo.setThrowable(new SQLException("deadlock detected"));
+
+        SimpleSpan statement = inRequestSpan("update tasks set status = ?", execInfo);
+
+        assertThat(statement.getError()).hasMessage("deadlock detected");
+    }
+
+    @Test
+    @DisplayName("should not start a trace for a statement outside one")
+    void shouldNotTraceWithoutCurrentSpan() {
+        execute("select 1", succeeded());
+
+        assertThat(tracer.getSpans()).isEmpty();
+    }
+}
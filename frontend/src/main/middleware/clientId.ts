@@ -0,0 +1,27 @@
+import { AsyncLocalStorage } from 'async_hooks';
+import { randomUUID } from 'crypto';
+
+import { NextFunction, Request, Response } from 'express';
+
+export const CLIENT_ID_COOKIE = 'clientId';
+
+const UUID = /^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$/;
+const clientIds = new AsyncLocalStorage<string>();
+
+// Gives each browser session a stable id and runs the rest of the request with it, so backend calls
+// can send it on. The backend uses it to keep a user's reads on the primary database after they
+// write, rather than pinning everyone behind the frontend's address.
+export function clientId(req: Request, res: Response, next: NextFunction): void {
+  let id = req.cookies?.[CLIENT_ID_COOKIE];
+  if (typeof id !== 'string' || !UUID.test(id)) {
+    id = randomUUID();
+    res.cookie(CLIENT_ID_COOKIE, id, {
+      httpOnly: true,
+      sameSite: 'lax',
+      secure: process.env.NODE_ENV === 'production',
+    });
+  }
+  clientIds.run(id, next);
+}
+
+export const currentClientId = (): string | undefined => clientIds.getStore();
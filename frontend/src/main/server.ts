@@ -1,3 +1,5 @@
+import '@/main/tracing';
+
 import path from 'path';
 
 import express, { Application, Request, Response } from 'express';
@@ -6,6 +8,7 @@ import cookieParser from 'cookie-parser';
 
 import { configureNunjucks } from '@/main/config/nunjucks';
 import { taskRoutes } from '@/main/routes/tasks';
+import { clientId } from '@/main/middleware/clientId';
 import { errorHandler } from '@/main/middleware/errorHandler';
 
 const app: Application = express();
@@ -29,7 +32,7 @@ app.use(
   express.static(path.join(__dirname, '../../node_modules/govuk-frontend/dist/govuk'))
 );
 
-app.use('/tasks', taskRoutes);
+app.use('/tasks', clientId, taskRoutes);
 
 app.get('/', (_req: Request, res: Response) => {
   res.redirect('/tasks');
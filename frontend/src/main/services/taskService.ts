@@ -1,7 +1,35 @@
-import axios, { AxiosInstance } from 'axios';
+import { Context, SpanKind, SpanStatusCode, context, propagation, trace } from '@opentelemetry/api';
+import axios, { AxiosInstance, InternalAxiosRequestConfig } from 'axios';
 
+import { currentClientId } from '@/main/middleware/clientId';
 import { Task, TaskRequest, TaskStatus } from '@/main/types/task';
 
+export const CLIENT_ID_HEADER = 'X-Client-Id';
+
+const tracer = trace.getTracer('task-management-frontend');
+
+// Adds the W3C traceparent of the active span, so the backend continues the same trace. A no-op
+// until tracing is started in server.ts.
+export const injectTraceContext = (
+  config: InternalAxiosRequestConfig,
+  activeContext: Context = context.active()
+): InternalAxiosRequestConfig => {
+  propagation.inject(activeContext, config.headers);
+  return config;
+};
+
+// Sends the id of the browser session the request is for, so the backend can tell users apart. A
+// no-op outside a page request.
+export const injectClientId = (
+  config: InternalAxiosRequestConfig,
+  clientId: string | undefined = currentClientId()
+): InternalAxiosRequestConfig => {
+  if (clientId) {
+    config.headers[CLIENT_ID_HEADER] = clientId;
+  }
+  return config;
+};
+
 export class TaskService {
   private readonly api: AxiosInstance;
 
@@ -13,34 +41,63 @@ export class TaskService {
         'Content-Type': 'application/json',
       },
     });
+    this.api.interceptors.request.use(injectTraceContext);
+    this.api.interceptors.request.use(injectClientId);
   }
 
   async getAllTasks(): Promise<Task[]> {
-    const response = await this.api.get<Task[]>('/tasks/get-all-tasks');
-    return response.data;
+    return this.traced('getAllTasks', async () => {
+      const response = await this.api.get<Task[]>('/tasks/get-all-tasks');
+      return response.data;
+    });
   }
 
   async getTaskById(id: number): Promise<Task> {
-    const response = await this.api.get<Task>(`/tasks/${id}/get-task`);
-    return response.data;
+    return this.traced('getTaskById', async () => {
+      const response = await this.api.get<Task>(`/tasks/${id}/get-task`);
+      return response.data;
+    });
   }
 
   async createTask(task: TaskRequest): Promise<Task> {
-    const response = await this.api.post<Task>('/tasks/create-task', task);
-    return response.data;
+    return this.traced('createTask', async () => {
+      const response = await this.api.post<Task>('/tasks/create-task', task);
+      return response.data;
+    });
   }
 
   async updateTask(id: number, task: TaskRequest): Promise<Task> {
-    const response = await this.api.put<Task>(`/tasks/${id}/update-task`, task);
-    return response.data;
+    return this.traced('updateTask', async () => {
+      const response = await this.api.put<Task>(`/tasks/${id}/update-task`, task);
+      return response.data;
+    });
   }
 
   async updateTaskStatus(id: number, status: TaskStatus): Promise<Task> {
-    const response = await this.api.put<Task>(`/tasks/${id}/status?status=${status}`);
-    return response.data;
+    return this.traced('updateTaskStatus', async () => {
+      const response = await this.api.put<Task>(`/tasks/${id}/status?status=${status}`);
+      return response.data;
+    });
   }
 
   async deleteTask(id: number): Promise<void> {
-    await this.api.delete(`/tasks/${id}/delete-task`);
+    return this.traced('deleteTask', async () => {
+      await this.api.delete(`/tasks/${id}/delete-task`);
+    });
+  }
+
+  private traced<T>(method: string, call: () => Promise<T>): Promise<T> {
+    const name = `TaskService.${method}`;
+    return tracer.startActiveSpan(name, { kind: SpanKind.CLIENT }, async span => {
+      try {
+        return await call();
+      } catch (error) {
+        span.recordException(error as Error);
+        span.setStatus({ code: SpanStatusCode.ERROR });
+        throw error;
+      } finally {
+        span.end();
+      }
+    });
   }
 }
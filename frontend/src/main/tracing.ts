@@ -0,0 +1,22 @@
+import { HttpInstrumentation } from '@opentelemetry/instrumentation-http';
+import { NodeSDK, tracing } from '@opentelemetry/sdk-node';
+
+// Imported first in server.ts so the http module is patched before Express loads it. Spans go over
+// OTLP to OTEL_EXPORTER_OTLP_ENDPOINT and the backend continues the same traces.
+if (process.env.TRACING_ENABLED === 'true') {
+  const sampleRate = Number(process.env.TRACING_SAMPLE_RATE ?? '0.01');
+  const sdk = new NodeSDK({
+    serviceName: process.env.OTEL_SERVICE_NAME ?? 'task-management-frontend',
+    // Share of page requests traced; requests arriving with a trace context follow its decision
+    sampler: new tracing.ParentBasedSampler({
+      root: new tracing.TraceIdRatioBasedSampler(Number.isFinite(sampleRate) ? sampleRate : 0.01),
+    }),
+    // Incoming page requests only; backend calls are traced, and propagated, by TaskService
+    instrumentations: [new HttpInstrumentation({ disableOutgoingRequestInstrumentation: true })],
+  });
+  sdk.start();
+
+  process.on('SIGTERM', () => {
+    sdk.shutdown().catch(error => console.error('Error shutting down tracing:', error));
+  });
+}
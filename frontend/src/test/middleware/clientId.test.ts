@@ -0,0 +1,53 @@
+import { Request, Response } from 'express';
+
+import { CLIENT_ID_COOKIE, clientId, currentClientId } from '@/main/middleware/clientId';
+
+describe('clientId middleware', () => {
+  const existingId = '3f2b8c1e-5d4a-4e6f-9a7b-1c2d3e4f5a6b';
+  let mockResponse: Partial<Response>;
+
+  beforeEach(() => {
+    mockResponse = {
+      cookie: jest.fn(),
+    };
+  });
+
+  const handle = (cookies: Record<string, string>): string | undefined => {
+    let seen: string | undefined;
+    clientId({ cookies } as Request, mockResponse as Response, () => {
+      seen = currentClientId();
+    });
+    return seen;
+  };
+
+  it('should give a new session an id and remember it in a cookie', () => {
+    const id = handle({});
+
+    expect(id).toMatch(/^[0-9a-f-]{36}$/);
+    expect(mockResponse.cookie).toHaveBeenCalledWith(
+      CLIENT_ID_COOKIE,
+      id,
+      expect.objectContaining({ httpOnly: true, sameSite: 'lax' })
+    );
+  });
+
+  it('should keep the id of an existing session', () => {
+    expect(handle({ [CLIENT_ID_COOKIE]: existingId })).toBe(existingId);
+    expect(mockResponse.cookie).not.toHaveBeenCalled();
+  });
+
+  it('should replace an id that is not a UUID', () => {
+    const id = handle({ [CLIENT_ID_COOKIE]: 'everyone' });
+
+    expect(id).not.toBe('everyone');
+    expect(mockResponse.cookie).toHaveBeenCalledWith(CLIENT_ID_COOKIE, id, expect.anything());
+  });
+
+  it('should give two new sessions different ids', () => {
+    expect(handle({})).not.toBe(handle({}));
+  });
+
+  it('should have no id outside a request', () => {
+    expect(currentClientId()).toBeUndefined();
+  });
+});
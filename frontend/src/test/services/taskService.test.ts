@@ -1,6 +1,13 @@
-import axios from 'axios';
-
-import { TaskService } from '@/main/services/taskService';
+import { ROOT_CONTEXT, TraceFlags, propagation, trace } from '@opentelemetry/api';
+import { core } from '@opentelemetry/sdk-node';
+import axios, { InternalAxiosRequestConfig } from 'axios';
+
+import {
+  CLIENT_ID_HEADER,
+  TaskService,
+  injectClientId,
+  injectTraceContext,
+} from '@/main/services/taskService';
 import { Task, TaskRequest, TaskStatus } from '@/main/types/task';
 
 jest.mock('axios');
@@ -16,6 +23,9 @@ describe('TaskService', () => {
       post: jest.fn(),
       put: jest.fn(),
       delete: jest.fn(),
+      interceptors: {
+        request: { use: jest.fn() },
+      },
     };
 
     mockedAxios.create.mockReturnValue(mockAxiosInstance);
@@ -346,4 +356,61 @@ describe('TaskService', () => {
       await expect(taskService.getAllTasks()).rejects.toEqual(authError);
     });
   });
+
+  describe('trace propagation', () => {
+    const spanContext = {
+      traceId: '0af7651916cd43dd8448eb211c80319c',
+      spanId: 'b7ad6b7169203331',
+      traceFlags: TraceFlags.SAMPLED,
+    };
+
+    beforeEach(() => {
+      propagation.setGlobalPropagator(new core.W3CTraceContextPropagator());
+    });
+
+    afterEach(() => {
+      propagation.disable();
+    });
+
+    it('should inject trace context into every backend request', () => {
+      expect(mockAxiosInstance.interceptors.request.use).toHaveBeenCalledWith(injectTraceContext);
+    });
+
+    it('should add the traceparent of the active span', () => {
+      const config = injectTraceContext(
+        { headers: {} } as InternalAxiosRequestConfig,
+        trace.setSpanContext(ROOT_CONTEXT, spanContext)
+      );
+
+      expect(config.headers).toEqual({
+        traceparent: '00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01',
+      });
+    });
+
+    it('should leave requests made outside a trace unchanged', () => {
+      const config = injectTraceContext({ headers: {} } as InternalAxiosRequestConfig, ROOT_CONTEXT);
+
+      expect(config.headers).toEqual({});
+    });
+  });
+
+  describe('client id', () => {
+    it('should send the client id with every backend request', () => {
+      expect(mockAxiosInstance.interceptors.request.use).toHaveBeenCalledWith(injectClientId);
+    });
+
+    it('should send the id of the session the request is for', () => {
+      const first = injectClientId({ headers: {} } as InternalAxiosRequestConfig, 'session-one');
+      const second = injectClientId({ headers: {} } as InternalAxiosRequestConfig, 'session-two');
+
+      expect(first.headers).toEqual({ [CLIENT_ID_HEADER]: 'session-one' });
+      expect(second.headers).toEqual({ [CLIENT_ID_HEADER]: 'session-two' });
+    });
+
+    it('should leave requests made outside a page request unchanged', () => {
+      const config = injectClientId({ headers: {} } as InternalAxiosRequestConfig, undefined);
+
+      expect(config.headers).toEqual({});
+    });
+  });
 });